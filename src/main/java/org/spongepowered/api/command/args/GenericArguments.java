@@ -46,6 +46,7 @@
 import org.spongepowered.api.service.user.UserStorageService;
 import org.spongepowered.api.text.Text;
 import org.spongepowered.api.text.selector.Selector;
+import org.spongepowered.api.util.PrefixTrie;
 import org.spongepowered.api.util.StartsWithPredicate;
 import org.spongepowered.api.util.Tristate;
 import org.spongepowered.api.util.blockray.BlockRay;
@@ -68,6 +69,7 @@
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import javax.annotation.Nullable;
@@ -921,6 +923,7 @@ public static <T extends Enum<T>> CommandElement enumValue(Text key, Class<T> ty
     private static class EnumValueElement<T extends Enum<T>> extends PatternMatchingCommandElement {
         private final Class<T> type;
         private final Map<String, T> values;
+        private final PrefixTrie<T> index;
 
         EnumValueElement(Text key, Class<T> type) {
             super(key);
@@ -934,6 +937,7 @@ public static <T extends Enum<T>> CommandElement enumValue(Text key, Class<T> ty
                                         "with the same name, only differing by capitalization, which is unsupported.");
                             }
                     ));
+            this.index = PrefixTrie.of(this.values);
         }
 
         @Override
@@ -941,6 +945,11 @@ protected Iterable<String> getChoices(CommandSource source) {
             return this.values.keySet();
         }
 
+        @Override
+        protected PrefixTrie<T> getChoiceIndex(CommandSource source) {
+            return this.index;
+        }
+
         @Override
         protected Object getValue(String choice) throws IllegalArgumentException {
             T value = this.values.get(choice.toLowerCase());
@@ -1088,6 +1097,9 @@ public Text getUsage(CommandSource src) {
 
     private static class UserCommandElement extends PatternMatchingCommandElement {
 
+        private static final Pattern NAME_PREFIX = Pattern.compile("\\w*");
+        private static final int MAX_COMPLETIONS = 100;
+
         private final PlayerCommandElement possiblePlayer;
         private final boolean returnSource;
 
@@ -1125,6 +1137,23 @@ protected Iterable<String> getChoices(CommandSource source) {
                     .collect(ImmutableList.toImmutableList());
         }
 
+        @Override
+        public List<String> complete(CommandSource src, CommandArgs args, CommandContext context) {
+            final Object state = args.getState();
+            final Optional<String> nextArg = args.nextIfPresent();
+            if (nextArg.isPresent() && !NAME_PREFIX.matcher(nextArg.get()).matches()) {
+                // Only plain name prefixes can be looked up in the name index
+                args.setState(state);
+                return super.complete(src, args, context);
+            }
+            return Sponge.getGame().getServiceManager().provideUnchecked(UserStorageService.class)
+                    .match(nextArg.orElse(""), MAX_COMPLETIONS).stream()
+                    .map(GameProfile::getName)
+                    .filter(Optional::isPresent)
+                    .map(Optional::get)
+                    .collect(ImmutableList.toImmutableList());
+        }
+
         @Override
         protected Object getValue(String choice) throws IllegalArgumentException {
             return Sponge.getGame().getServiceManager().provideUnchecked(UserStorageService.class).get(choice).get();
@@ -1245,10 +1274,10 @@ public Object parseValue(CommandSource source, CommandArgs args) throws Argument
 
         @Override
         public List<String> complete(CommandSource src, CommandArgs args, CommandContext context) {
-            Iterable<String> choices = getCompletionChoices(src);
+            final Iterable<String> choices = getCompletionChoices(src);
             final Optional<String> nextArg = args.nextIfPresent();
             if (nextArg.isPresent()) {
-                choices = Iterables.filter(choices, input -> getFormattedPattern(nextArg.get()).matcher(input).find());
+                return filterChoices(choices, nextArg.get());
             }
             return ImmutableList.copyOf(choices);
         }
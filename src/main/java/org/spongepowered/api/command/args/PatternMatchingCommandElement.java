@@ -26,10 +26,13 @@
 
 import static org.spongepowered.api.util.SpongeApiTranslationHelper.t;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Iterables;
 import org.spongepowered.api.command.CommandSource;
 import org.spongepowered.api.text.Text;
+import org.spongepowered.api.util.PrefixTrie;
 
 import java.util.Collections;
 import java.util.List;
@@ -40,9 +43,18 @@
 
 /**
  * Abstract command element that matches values based on pattern.
+ *
+ * <p>Inputs without any regular expression metacharacters are matched as
+ * plain, case-insensitive prefixes, which can be answered from the index
+ * returned by {@link #getChoiceIndex(CommandSource)} if there is one. Other
+ * inputs are compiled into patterns, which are cached.</p>
  */
 public abstract class PatternMatchingCommandElement extends CommandElement {
     private static final Text nullKeyArg = t("argument");
+    private static final String REGEX_METACHARACTERS = "\\^$.|?*+()[]{}";
+    private static final LoadingCache<String, Pattern> patternCache = Caffeine.newBuilder()
+            .maximumSize(256)
+            .build(PatternMatchingCommandElement::compilePattern);
 
     protected PatternMatchingCommandElement(@Nullable Text key) {
         super(key);
@@ -52,38 +64,71 @@ protected PatternMatchingCommandElement(@Nullable Text key) {
     @Override
     protected Object parseValue(CommandSource source, CommandArgs args) throws ArgumentParseException {
         final String unformattedPattern = args.next();
-        Pattern pattern = getFormattedPattern(unformattedPattern);
-        Iterable<String> filteredChoices = Iterables.filter(getChoices(source), element -> pattern.matcher(element).find());
+        List<String> filteredChoices = getMatchingChoices(source, unformattedPattern);
         for (String el : filteredChoices) { // Match a single value
             if (el.equalsIgnoreCase(unformattedPattern)) {
                 return Collections.singleton(getValue(el));
             }
         }
-        Iterable<Object> ret = Iterables.transform(filteredChoices, this::getValue);
-
-        if (!ret.iterator().hasNext()) {
+        if (filteredChoices.isEmpty()) {
             throw args.createError(t("No values matching pattern '%s' present for %s!", unformattedPattern, getKey() == null
                         ? nullKeyArg : getKey()));
         }
-        return ret;
+        return Iterables.transform(filteredChoices, this::getValue);
     }
 
     @Override
     public List<String> complete(CommandSource src, CommandArgs args, CommandContext context) {
-        Iterable<String> choices = getChoices(src);
         final Optional<String> nextArg = args.nextIfPresent();
         if (nextArg.isPresent()) {
-            choices = Iterables.filter(choices, input -> getFormattedPattern(nextArg.get()).matcher(input).find());
+            return getMatchingChoices(src, nextArg.get());
+        }
+        return ImmutableList.copyOf(getChoices(src));
+    }
+
+    private List<String> getMatchingChoices(CommandSource source, String input) {
+        if (isPlainPrefix(input)) {
+            @Nullable final PrefixTrie<?> index = getChoiceIndex(source);
+            if (index != null) {
+                return index.getKeysWithPrefix(input);
+            }
+        }
+        return filterChoices(getChoices(source), input);
+    }
+
+    /**
+     * Filters the given choices to the ones matched by the input.
+     *
+     * @param choices The choices to filter
+     * @param input The input, a pattern anchored to the beginning of choices
+     * @return The matching choices
+     */
+    List<String> filterChoices(Iterable<String> choices, String input) {
+        if (isPlainPrefix(input)) {
+            return ImmutableList.copyOf(Iterables.filter(choices, choice -> choice.regionMatches(true, 0, input, 0, input.length())));
         }
-        return ImmutableList.copyOf(choices);
+        final Pattern pattern = getFormattedPattern(input);
+        return ImmutableList.copyOf(Iterables.filter(choices, choice -> pattern.matcher(choice).find()));
+    }
+
+    private static boolean isPlainPrefix(String input) {
+        for (int i = 0; i < input.length(); i++) {
+            if (REGEX_METACHARACTERS.indexOf(input.charAt(i)) != -1) {
+                return false;
+            }
+        }
+        return true;
     }
 
     Pattern getFormattedPattern(String input) {
+        return patternCache.get(input);
+    }
+
+    private static Pattern compilePattern(String input) {
         if (!input.startsWith("^")) { // Anchor matches to the beginning -- this lets us use find()
             input = "^" + input;
         }
         return Pattern.compile(input, Pattern.CASE_INSENSITIVE);
-
     }
 
     /**
@@ -94,6 +139,24 @@ Pattern getFormattedPattern(String input) {
      */
     protected abstract Iterable<String> getChoices(CommandSource source);
 
+    /**
+     * Gets an index of the available choices for this command source, which
+     * is used instead of {@link #getChoices(CommandSource)} to find the
+     * choices starting with a plain prefix.
+     *
+     * <p>The keys of the index must be the same as the choices. Elements
+     * whose choices don't change should build the index once and return the
+     * same instance every time. By default, there is no index and all the
+     * choices are scanned.</p>
+     *
+     * @param source The source requesting choices
+     * @return The index of the possible choices, or null if there is none
+     */
+    @Nullable
+    protected PrefixTrie<?> getChoiceIndex(CommandSource source) {
+        return null;
+    }
+
     /**
      * Gets the value for a given choice. For any result in
      * {@link #getChoices(CommandSource)}, this must return a non-null value.
@@ -28,11 +28,9 @@
 import static org.spongepowered.api.command.CommandMessageFormatting.SPACE_TEXT;
 import static org.spongepowered.api.util.SpongeApiTranslationHelper.t;
 
-import com.google.common.collect.ArrayListMultimap;
 import com.google.common.collect.ImmutableList;
-import com.google.common.collect.ImmutableMultimap;
+import com.google.common.collect.ImmutableListMultimap;
 import com.google.common.collect.ImmutableSet;
-import com.google.common.collect.ListMultimap;
 import com.google.common.collect.Multimap;
 import com.google.common.collect.Multimaps;
 import org.spongepowered.api.command.CommandCallable;
@@ -47,7 +45,7 @@
 import org.spongepowered.api.text.action.TextActions;
 import org.spongepowered.api.text.format.TextColors;
 import org.spongepowered.api.text.format.TextStyles;
-import org.spongepowered.api.util.StartsWithPredicate;
+import org.spongepowered.api.util.PrefixTrie;
 import org.spongepowered.api.world.Location;
 import org.spongepowered.api.world.World;
 
@@ -56,9 +54,12 @@
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.BiPredicate;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -66,6 +67,10 @@
 
 /**
  * A simple implementation of a {@link Dispatcher}.
+ *
+ * <p>Registered commands are held in an immutable snapshot which is replaced
+ * whenever a command is registered or removed, so lookups and suggestions
+ * never need to acquire a lock. Only modifications are synchronized.</p>
  */
 public final class SimpleDispatcher implements Dispatcher {
 
@@ -82,7 +87,7 @@ public final class SimpleDispatcher implements Dispatcher {
     };
 
     private final Disambiguator disambiguatorFunc;
-    private final ListMultimap<String, CommandMapping> commands = ArrayListMultimap.create();
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
 
     /**
      * Creates a basic new dispatcher.
@@ -176,9 +181,12 @@ public synchronized Optional<CommandMapping> register(CommandCallable callable,
             List<String> secondary = aliases.subList(1, aliases.size());
             CommandMapping mapping = new ImmutableCommandMapping(callable, primary, secondary);
 
+            final ImmutableListMultimap.Builder<String, CommandMapping> commands = ImmutableListMultimap.builder();
+            commands.putAll(this.snapshot.commands);
             for (String alias : aliases) {
-                this.commands.put(alias.toLowerCase(), mapping);
+                commands.put(alias.toLowerCase(), mapping);
             }
+            this.snapshot = new Snapshot(commands.build());
 
             return Optional.of(mapping);
         }
@@ -192,7 +200,12 @@ public synchronized Optional<CommandMapping> register(CommandCallable callable,
      * @return The previous mapping associated with the alias, if one was found
      */
     public synchronized Collection<CommandMapping> remove(String alias) {
-        return this.commands.removeAll(alias.toLowerCase());
+        final String key = alias.toLowerCase();
+        final List<CommandMapping> removed = this.snapshot.commands.get(key);
+        if (!removed.isEmpty()) {
+            this.snapshot = this.snapshot.without((currentAlias, mapping) -> currentAlias.equals(key));
+        }
+        return removed;
     }
 
     /**
@@ -204,15 +217,13 @@ public synchronized Collection<CommandMapping> remove(String alias) {
     public synchronized boolean removeAll(Collection<?> aliases) {
         checkNotNull(aliases, "aliases");
 
-        boolean found = false;
-
+        final Set<String> keys = new HashSet<>();
         for (Object alias : aliases) {
-            if (!this.commands.removeAll(alias.toString().toLowerCase()).isEmpty()) {
-                found = true;
-            }
+            keys.add(alias.toString().toLowerCase());
         }
-
-        return found;
+        final Snapshot snapshot = this.snapshot;
+        this.snapshot = snapshot.without((alias, mapping) -> keys.contains(alias));
+        return this.snapshot != snapshot;
     }
 
     /**
@@ -225,15 +236,14 @@ public synchronized Optional<CommandMapping> removeMapping(CommandMapping mappin
         checkNotNull(mapping, "mapping");
 
         CommandMapping found = null;
-
-        Iterator<CommandMapping> it = this.commands.values().iterator();
-        while (it.hasNext()) {
-            CommandMapping current = it.next();
+        for (CommandMapping current : this.snapshot.commands.values()) {
             if (current.equals(mapping)) {
-                it.remove();
                 found = current;
             }
         }
+        if (found != null) {
+            this.snapshot = this.snapshot.without((alias, current) -> current.equals(mapping));
+        }
 
         return Optional.ofNullable(found);
     }
@@ -247,29 +257,21 @@ public synchronized Optional<CommandMapping> removeMapping(CommandMapping mappin
     public synchronized boolean removeMappings(Collection<?> mappings) {
         checkNotNull(mappings, "mappings");
 
-        boolean found = false;
-
-        Iterator<CommandMapping> it = this.commands.values().iterator();
-        while (it.hasNext()) {
-            if (mappings.contains(it.next())) {
-                it.remove();
-                found = true;
-            }
-        }
-
-        return found;
+        final Snapshot snapshot = this.snapshot;
+        this.snapshot = snapshot.without((alias, mapping) -> mappings.contains(mapping));
+        return this.snapshot != snapshot;
     }
 
     @Override
-    public synchronized Set<CommandMapping> getCommands() {
-        return ImmutableSet.copyOf(this.commands.values());
+    public Set<CommandMapping> getCommands() {
+        return ImmutableSet.copyOf(this.snapshot.commands.values());
     }
 
     @Override
-    public synchronized Set<String> getPrimaryAliases() {
+    public Set<String> getPrimaryAliases() {
         Set<String> aliases = new HashSet<>();
 
-        for (CommandMapping mapping : this.commands.values()) {
+        for (CommandMapping mapping : this.snapshot.commands.values()) {
             aliases.add(mapping.getPrimaryAlias());
         }
 
@@ -277,10 +279,10 @@ public synchronized Set<String> getPrimaryAliases() {
     }
 
     @Override
-    public synchronized Set<String> getAliases() {
+    public Set<String> getAliases() {
         Set<String> aliases = new HashSet<>();
 
-        for (CommandMapping mapping : this.commands.values()) {
+        for (CommandMapping mapping : this.snapshot.commands.values()) {
             aliases.addAll(mapping.getAllAliases());
         }
 
@@ -293,8 +295,8 @@ public Optional<CommandMapping> get(String alias) {
     }
 
     @Override
-    public synchronized Optional<CommandMapping> get(String alias, @Nullable CommandSource source) {
-        List<CommandMapping> results = this.commands.get(alias.toLowerCase());
+    public Optional<CommandMapping> get(String alias, @Nullable CommandSource source) {
+        List<CommandMapping> results = this.snapshot.commands.get(alias.toLowerCase());
         if (results.size() == 1) {
             return Optional.of(results.get(0));
         } else if (results.size() == 0) {
@@ -305,15 +307,15 @@ public synchronized Optional<CommandMapping> get(String alias, @Nullable Command
     }
 
     @Override
-    public synchronized boolean containsAlias(String alias) {
-        return this.commands.containsKey(alias.toLowerCase());
+    public boolean containsAlias(String alias) {
+        return this.snapshot.commands.containsKey(alias.toLowerCase());
     }
 
     @Override
     public boolean containsMapping(CommandMapping mapping) {
         checkNotNull(mapping, "mapping");
 
-        for (CommandMapping test : this.commands.values()) {
+        for (CommandMapping test : this.snapshot.commands.values()) {
             if (mapping.equals(test)) {
                 return true;
             }
@@ -343,7 +345,13 @@ public List<String> getSuggestions(CommandSource src, final String arguments, @N
         final String[] argSplit = arguments.split(" ", 2);
         Optional<CommandMapping> cmdOptional = get(argSplit[0], src);
         if (argSplit.length == 1) {
-            return filterCommands(src).stream().filter(new StartsWithPredicate(argSplit[0])).collect(ImmutableList.toImmutableList());
+            final ImmutableList.Builder<String> suggestions = ImmutableList.builder();
+            this.snapshot.getAliasTrie().forEachWithPrefix(argSplit[0], (alias, mappings) -> {
+                if (anyPermitted(mappings, src)) {
+                    suggestions.add(alias);
+                }
+            });
+            return suggestions.build();
         } else if (!cmdOptional.isPresent()) {
             return ImmutableList.of();
         }
@@ -352,7 +360,11 @@ public List<String> getSuggestions(CommandSource src, final String arguments, @N
 
     @Override
     public boolean testPermission(CommandSource source) {
-        for (CommandMapping mapping : this.commands.values()) {
+        return anyPermitted(this.snapshot.commands.values(), source);
+    }
+
+    private static boolean anyPermitted(Collection<CommandMapping> mappings, CommandSource source) {
+        for (CommandMapping mapping : mappings) {
             if (mapping.getCallable().testPermission(source)) {
                 return true;
             }
@@ -367,7 +379,7 @@ public Optional<Text> getShortDescription(CommandSource source) {
 
     @Override
     public Optional<Text> getHelp(CommandSource source) {
-        if (this.commands.isEmpty()) {
+        if (this.snapshot.commands.isEmpty()) {
             return Optional.empty();
         }
         Text.Builder build = t("Available commands:\n").toBuilder();
@@ -391,7 +403,13 @@ public Optional<Text> getHelp(CommandSource source) {
     }
 
     private Set<String> filterCommands(final CommandSource src) {
-        return Multimaps.filterValues(this.commands, input -> input.getCallable().testPermission(src)).keys().elementSet();
+        final Set<String> aliases = new LinkedHashSet<>();
+        for (Map.Entry<String, Collection<CommandMapping>> entry : this.snapshot.commands.asMap().entrySet()) {
+            if (anyPermitted(entry.getValue(), src)) {
+                aliases.add(entry.getKey());
+            }
+        }
+        return aliases;
     }
 
     /**
@@ -399,8 +417,8 @@ private Set<String> filterCommands(final CommandSource src) {
      *
      * @return The number of aliases
      */
-    public synchronized int size() {
-        return this.commands.size();
+    public int size() {
+        return this.snapshot.commands.size();
     }
 
     @Override
@@ -426,12 +444,57 @@ public Text getUsage(final CommandSource source) {
     }
 
     @Override
-    public synchronized Set<CommandMapping> getAll(String alias) {
-        return ImmutableSet.copyOf(this.commands.get(alias));
+    public Set<CommandMapping> getAll(String alias) {
+        return ImmutableSet.copyOf(this.snapshot.commands.get(alias));
     }
 
     @Override
     public Multimap<String, CommandMapping> getAll() {
-        return ImmutableMultimap.copyOf(this.commands);
+        return this.snapshot.commands;
+    }
+
+    /**
+     * An immutable view of the registered commands at one point in time.
+     */
+    private static final class Snapshot {
+
+        static final Snapshot EMPTY = new Snapshot(ImmutableListMultimap.of());
+
+        final ImmutableListMultimap<String, CommandMapping> commands;
+        // Built on the first suggestion request, so registering many
+        // commands in a row doesn't rebuild the trie every time
+        @Nullable private volatile PrefixTrie<List<CommandMapping>> aliasTrie;
+
+        Snapshot(ImmutableListMultimap<String, CommandMapping> commands) {
+            this.commands = commands;
+        }
+
+        /**
+         * Gets a snapshot without the mappings matching the given predicate.
+         *
+         * @param removed The predicate of the aliases and mappings to remove
+         * @return The new snapshot, or this snapshot if nothing was removed
+         */
+        Snapshot without(BiPredicate<String, CommandMapping> removed) {
+            final ImmutableListMultimap.Builder<String, CommandMapping> commands = ImmutableListMultimap.builder();
+            boolean found = false;
+            for (Map.Entry<String, CommandMapping> entry : this.commands.entries()) {
+                if (removed.test(entry.getKey(), entry.getValue())) {
+                    found = true;
+                } else {
+                    commands.put(entry);
+                }
+            }
+            return found ? new Snapshot(commands.build()) : this;
+        }
+
+        PrefixTrie<List<CommandMapping>> getAliasTrie() {
+            PrefixTrie<List<CommandMapping>> trie = this.aliasTrie;
+            if (trie == null) {
+                // The keys are already lower case, so no two of them collide
+                this.aliasTrie = trie = PrefixTrie.of(Multimaps.asMap(this.commands));
+            }
+            return trie;
+        }
     }
 }
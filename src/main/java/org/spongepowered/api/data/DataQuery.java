@@ -24,58 +24,112 @@
  */
 package org.spongepowered.api.data;
 
+import static com.google.common.base.Preconditions.checkNotNull;
+
 import com.google.common.base.Joiner;
-import com.google.common.base.Objects;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.MapMaker;
 
 import java.util.List;
+import java.util.concurrent.ConcurrentMap;
 import java.util.regex.Pattern;
 
+import javax.annotation.Nullable;
+
 /**
  * Represents a query that can be done on views. Queries do not depend on
  * their separator, it is just a way to construct them.
+ *
+ * <p>Queries are interned: every query is a node in a shared tree of queries
+ * where each node links to the query it extends. Equal queries are therefore
+ * the same instance for as long as they are in use, {@link #then(String)} and
+ * {@link #pop()} only move through the tree, and hash codes are computed once
+ * when a query is first created.</p>
  */
 public final class DataQuery {
 
     private static final DataQuery EMPTY = new DataQuery();
 
     /**
-     * The parts that make up this query.
+     * The query this query extends by one part, or null for the
+     * empty query.
      */
-    private final ImmutableList<String> parts;
+    @Nullable private final DataQuery parent;
 
-    private ImmutableList<DataQuery> queryParts; //lazy loaded
+    /**
+     * The last part of this query, or null for the empty query.
+     */
+    @Nullable private final String name;
+
+    private final int size;
 
     /**
-     * Constructs a query using the given separator character and path.
-     *
-     * <p>As an example, {@code new DataQuery('/', "a/b/c")} and
-     * {@code new DataQuery('.', "a.b.c")} represent the same path but are
-     * constructed using different separators.</p>
-     *
-     * @param separator The separator
-     * @param path The path
+     * The hash code of the list of parts of this query.
      */
-    private DataQuery(char separator, String path) {
-        this(path.split(Pattern.quote(String.valueOf(separator))));
-    }
+    private final int partsHash;
 
     /**
-     * Constructs a query using the given parts.
-     *
-     * @param parts The parts
+     * The known queries extending this query by one part. The queries are
+     * weakly referenced, they keep their parent alive but not the other
+     * way around.
      */
-    private DataQuery(String... parts) {
-        this.parts = ImmutableList.copyOf(parts);
+    @Nullable private volatile ConcurrentMap<String, DataQuery> children;
+
+    @Nullable private ImmutableList<String> parts; //lazy loaded
+
+    @Nullable private ImmutableList<DataQuery> queryParts; //lazy loaded
+
+    @Nullable private DataQuery popFirst; //lazy loaded
+
+    private DataQuery() {
+        this.parent = null;
+        this.name = null;
+        this.size = 0;
+        this.partsHash = 1;
+        this.parts = ImmutableList.of();
+    }
+
+    private DataQuery(DataQuery parent, String name) {
+        this.parent = parent;
+        this.name = name;
+        this.size = parent.size + 1;
+        this.partsHash = 31 * parent.partsHash + name.hashCode();
     }
 
     /**
-     * Constructs a query using the given parts.
+     * Gets the interned query that is made up of this query's parts followed
+     * by the given part.
      *
-     * @param parts The parts
+     * @param name The part to follow this query
+     * @return The child query
      */
-    private DataQuery(List<String> parts) {
-        this.parts = ImmutableList.copyOf(parts);
+    private DataQuery child(String name) {
+        ConcurrentMap<String, DataQuery> children = this.children;
+        if (children == null) {
+            synchronized (this) {
+                children = this.children;
+                if (children == null) {
+                    this.children = children = new MapMaker().concurrencyLevel(1).weakValues().makeMap();
+                }
+            }
+        }
+        DataQuery child = children.get(name);
+        if (child == null) {
+            child = new DataQuery(this, name);
+            final DataQuery existing = children.putIfAbsent(name, child);
+            if (existing != null) {
+                child = existing;
+            }
+        }
+        return child;
+    }
+
+    private static DataQuery of(DataQuery parent, Iterable<String> parts) {
+        DataQuery query = parent;
+        for (String part : parts) {
+            query = query.child(checkNotNull(part, "part"));
+        }
+        return query;
     }
 
     /**
@@ -101,7 +155,7 @@ public static DataQuery of() {
      * @return The newly constructed {@link DataQuery}
      */
     public static DataQuery of(char separator, String path) {
-        return new DataQuery(separator, path);
+        return of(path.split(Pattern.quote(String.valueOf(separator))));
     }
 
     /**
@@ -111,10 +165,11 @@ public static DataQuery of(char separator, String path) {
      * @return The newly constructed {@link DataQuery}
      */
     public static DataQuery of(String... parts) {
-        if (parts.length == 0) {
-            return DataQuery.EMPTY;
+        DataQuery query = DataQuery.EMPTY;
+        for (String part : parts) {
+            query = query.child(checkNotNull(part, "part"));
         }
-        return new DataQuery(parts);
+        return query;
     }
 
     /**
@@ -124,10 +179,7 @@ public static DataQuery of(String... parts) {
      * @return The newly constructed {@link DataQuery}
      */
     public static DataQuery of(List<String> parts) {
-        if (parts.isEmpty()) {
-            return DataQuery.EMPTY;
-        }
-        return new DataQuery(parts);
+        return of(DataQuery.EMPTY, parts);
     }
 
     /**
@@ -136,7 +188,17 @@ public static DataQuery of(List<String> parts) {
      * @return The parts of this query
      */
     public List<String> getParts() {
-        return this.parts;
+        ImmutableList<String> parts = this.parts;
+        if (parts == null) {
+            final String[] array = new String[this.size];
+            DataQuery query = this;
+            for (int i = this.size - 1; i >= 0; i--) {
+                array[i] = query.name;
+                query = query.parent;
+            }
+            this.parts = parts = ImmutableList.copyOf(array);
+        }
+        return parts;
     }
 
     /**
@@ -147,13 +209,12 @@ public List<String> getParts() {
      * @return The constructed query
      */
     public DataQuery then(DataQuery that) {
-        ImmutableList.Builder<String> builder =
-            new ImmutableList.Builder<>();
-
-        builder.addAll(this.parts);
-        builder.addAll(that.parts);
-
-        return new DataQuery(builder.build());
+        if (that.size == 0) {
+            return this;
+        } else if (this.size == 0) {
+            return that;
+        }
+        return of(this, that.getParts());
     }
 
     /**
@@ -164,13 +225,7 @@ public DataQuery then(DataQuery that) {
      * @return The constructed query
      */
     public DataQuery then(String that) {
-        ImmutableList.Builder<String> builder =
-            new ImmutableList.Builder<>();
-
-        builder.addAll(this.parts);
-        builder.add(that);
-
-        return new DataQuery(builder.build());
+        return child(checkNotNull(that, "that"));
     }
 
     /**
@@ -183,7 +238,7 @@ public List<DataQuery> getQueryParts() {
         if (this.queryParts == null) {
             ImmutableList.Builder<DataQuery> builder = ImmutableList.builder();
             for (String part : getParts()) {
-                builder.add(new DataQuery(part));
+                builder.add(EMPTY.child(part));
             }
             this.queryParts = builder.build();
         }
@@ -198,14 +253,7 @@ public List<DataQuery> getQueryParts() {
      * @return The next level query
      */
     public DataQuery pop() {
-        if (this.parts.size() <= 1) {
-            return of();
-        }
-        ImmutableList.Builder<String> builder = ImmutableList.builder();
-        for (int i = 0; i < this.parts.size() - 1; i++) {
-            builder.add(this.parts.get(i));
-        }
-        return new DataQuery(builder.build());
+        return this.parent == null ? this : this.parent;
     }
 
     /**
@@ -216,14 +264,16 @@ public DataQuery pop() {
      * @return The next level query
      */
     public DataQuery popFirst() {
-        if (this.parts.size() <= 1) {
-            return of();
-        }
-        ImmutableList.Builder<String> builder = ImmutableList.builder();
-        for (int i = 1; i < this.parts.size(); i++) {
-            builder.add(this.parts.get(i));
+        DataQuery popFirst = this.popFirst;
+        if (popFirst == null) {
+            if (this.size <= 1) {
+                popFirst = EMPTY;
+            } else {
+                popFirst = this.parent.popFirst().child(this.name);
+            }
+            this.popFirst = popFirst;
         }
-        return new DataQuery(builder.build());
+        return popFirst;
     }
 
     /**
@@ -233,10 +283,10 @@ public DataQuery popFirst() {
      * @return The last entry as a data query, if not already last
      */
     public DataQuery last() {
-        if (this.parts.size() <= 1) {
+        if (this.size <= 1) {
             return this;
         }
-        return new DataQuery(this.parts.get(this.parts.size() - 1));
+        return EMPTY.child(this.name);
     }
 
     /**
@@ -246,7 +296,7 @@ public DataQuery last() {
      * @return This query as a string
      */
     public String asString(String separator) {
-        return Joiner.on(separator).join(this.parts);
+        return Joiner.on(separator).join(getParts());
     }
 
     /**
@@ -266,7 +316,7 @@ public String toString() {
 
     @Override
     public int hashCode() {
-        return Objects.hashCode(this.parts);
+        return 31 + this.partsHash;
     }
 
     @Override
@@ -277,7 +327,19 @@ public boolean equals(Object obj) {
         if (obj == null || getClass() != obj.getClass()) {
             return false;
         }
-        final DataQuery other = (DataQuery) obj;
-        return Objects.equal(this.parts, other.parts);
+        // Queries are interned, but compare the parts to be safe
+        DataQuery query = this;
+        DataQuery other = (DataQuery) obj;
+        if (query.size != other.size || query.partsHash != other.partsHash) {
+            return false;
+        }
+        while (query != other) {
+            if (!query.name.equals(other.name)) {
+                return false;
+            }
+            query = query.parent;
+            other = other.parent;
+        }
+        return true;
     }
 }
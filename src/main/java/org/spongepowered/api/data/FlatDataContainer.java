@@ -0,0 +1,151 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import org.spongepowered.api.data.key.Key;
+import org.spongepowered.api.data.value.BaseValue;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import javax.annotation.Nullable;
+
+/**
+ * A {@link DataContainer} which stores all of its entries, at any depth, in
+ * a single index keyed by their full {@link DataQuery} path.
+ *
+ * <p>Unlike the {@link MemoryDataContainer}, which keeps a separate map for
+ * every level and walks them one query part at a time, a lookup or update of
+ * a deeply nested value in this container is a single lookup in the index.
+ * This makes it better suited to very large containers, such as entity and
+ * tile entity snapshots, which are mostly accessed through full paths.</p>
+ */
+public class FlatDataContainer extends FlatDataView implements DataContainer {
+
+    /**
+     * Every entry of this container by its full path. Values are either
+     * plain data or the {@link FlatDataView} representing that path.
+     */
+    final Map<DataQuery, Object> index = new HashMap<>();
+
+    /**
+     * Creates a new {@link FlatDataContainer} with a default
+     * {@link org.spongepowered.api.data.DataView.SafetyMode} of
+     * {@link org.spongepowered.api.data.DataView.SafetyMode#ALL_DATA_CLONED}.
+     */
+    public FlatDataContainer() {
+        this(DataView.SafetyMode.ALL_DATA_CLONED);
+    }
+
+    /**
+     * Creates a new {@link FlatDataContainer} with the provided
+     * {@link org.spongepowered.api.data.DataView.SafetyMode}.
+     *
+     * @param safety The safety mode to use
+     * @see org.spongepowered.api.data.DataView.SafetyMode
+     */
+    public FlatDataContainer(DataView.SafetyMode safety) {
+        super(safety);
+    }
+
+    @Nullable
+    Object getNode(DataQuery path) {
+        return path.getParts().isEmpty() ? this : this.index.get(path);
+    }
+
+    FlatDataView ensureView(DataQuery path) {
+        final Object node = getNode(path);
+        if (node instanceof FlatDataView) {
+            return (FlatDataView) node;
+        }
+        final FlatDataView parent = ensureView(path.pop());
+        final FlatDataView view = new FlatDataView(parent, path);
+        put(parent, path, view);
+        return view;
+    }
+
+    void put(FlatDataView parent, DataQuery path, Object value) {
+        final Object previous = this.index.put(path, value);
+        if (previous == null) {
+            parent.children.add(path);
+        } else if (previous instanceof FlatDataView) {
+            detach((FlatDataView) previous);
+        }
+    }
+
+    void removeNode(DataQuery path) {
+        final Object previous = this.index.remove(path);
+        if (previous == null) {
+            return;
+        }
+        final Object parent = getNode(path.pop());
+        if (parent instanceof FlatDataView) {
+            ((FlatDataView) parent).children.remove(path);
+        }
+        if (previous instanceof FlatDataView) {
+            detach((FlatDataView) previous);
+        }
+    }
+
+    private void detach(FlatDataView view) {
+        for (DataQuery child : view.children) {
+            final Object node = this.index.remove(child);
+            if (node instanceof FlatDataView) {
+                detach((FlatDataView) node);
+            }
+        }
+        view.children.clear();
+        view.detached = true;
+    }
+
+    @Override
+    public Optional<DataView> getParent() {
+        return Optional.empty();
+    }
+
+    @Override
+    public final DataContainer getContainer() {
+        return this;
+    }
+
+    @Override
+    public DataContainer set(DataQuery path, Object value) {
+        return (DataContainer) super.set(path, value);
+    }
+
+    @Override
+    public <E> DataContainer set(Key<? extends BaseValue<E>> key, E value) {
+        return set(checkNotNull(key).getQuery(), value);
+    }
+
+    @Override
+    public DataContainer remove(DataQuery path) {
+        return (DataContainer) super.remove(path);
+    }
+
+}
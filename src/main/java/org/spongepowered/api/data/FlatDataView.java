@@ -0,0 +1,334 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+import static org.spongepowered.api.data.DataQuery.of;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Objects;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Maps;
+import org.spongepowered.api.CatalogType;
+import org.spongepowered.api.data.persistence.DataTranslator;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+
+/**
+ * A {@link DataView} within a {@link FlatDataContainer}. Views do not hold
+ * any data themselves, every entry is stored in the single path index of
+ * the container and looked up by its full path.
+ *
+ * <p>Once a view is removed or replaced within its container it no longer
+ * has any contents and can not be modified.</p>
+ */
+public class FlatDataView extends AbstractDataView {
+
+    /**
+     * The full paths of the direct children of this view, in insertion
+     * order. The same query instances are used as keys of the index.
+     */
+    final Set<DataQuery> children = new LinkedHashSet<>();
+    final FlatDataContainer container;
+    @Nullable private final FlatDataView parent;
+    private final DataQuery path;
+    private final DataView.SafetyMode safety;
+    boolean detached;
+
+    FlatDataView(DataView.SafetyMode safety) {
+        checkState(this instanceof FlatDataContainer, "Cannot construct a root FlatDataView without a container!");
+        this.container = (FlatDataContainer) this;
+        this.parent = null;
+        this.path = of();
+        this.safety = checkNotNull(safety, "Safety mode");
+    }
+
+    FlatDataView(FlatDataView parent, DataQuery path) {
+        checkArgument(path.getParts().size() >= 1, "Path must have at least one part");
+        this.container = parent.container;
+        this.parent = parent;
+        this.path = path;
+        this.safety = parent.safety;
+    }
+
+    private DataQuery resolve(DataQuery path) {
+        if (this.path.getParts().isEmpty()) {
+            return path;
+        } else if (path.getParts().isEmpty()) {
+            return this.path;
+        }
+        return this.path.then(path);
+    }
+
+    private DataQuery relativize(DataQuery path) {
+        final List<String> parts = path.getParts();
+        return of(parts.subList(this.path.getParts().size(), parts.size()));
+    }
+
+    @Override
+    protected DataContainer createContainer(SafetyMode safety) {
+        return new FlatDataContainer(safety);
+    }
+
+    @Override
+    public DataContainer getContainer() {
+        return this.container;
+    }
+
+    @Override
+    public DataQuery getCurrentPath() {
+        return this.path;
+    }
+
+    @Override
+    public String getName() {
+        List<String> parts = this.path.getParts();
+        return parts.isEmpty() ? "" : parts.get(parts.size() - 1);
+    }
+
+    @Override
+    public Optional<DataView> getParent() {
+        return Optional.ofNullable(this.parent);
+    }
+
+    @Override
+    public Set<DataQuery> getKeys(boolean deep) {
+        ImmutableSet.Builder<DataQuery> builder = ImmutableSet.builder();
+        collectKeys(this, deep, builder);
+        return builder.build();
+    }
+
+    private void collectKeys(FlatDataView view, boolean deep, ImmutableSet.Builder<DataQuery> builder) {
+        for (DataQuery child : view.children) {
+            builder.add(relativize(child));
+        }
+        if (deep) {
+            for (DataQuery child : view.children) {
+                final Object node = this.container.index.get(child);
+                if (node instanceof FlatDataView) {
+                    collectKeys((FlatDataView) node, true, builder);
+                }
+            }
+        }
+    }
+
+    @Override
+    public Map<DataQuery, Object> getValues(boolean deep) {
+        ImmutableMap.Builder<DataQuery, Object> builder = ImmutableMap.builder();
+        for (DataQuery query : getKeys(deep)) {
+            Object value = get(query).get();
+            if (value instanceof DataView) {
+                builder.put(query, ((DataView) value).getValues(deep));
+            } else {
+                builder.put(query, value);
+            }
+        }
+        return builder.build();
+    }
+
+    @Override
+    public boolean contains(DataQuery path) {
+        checkNotNull(path, "path");
+        return !this.detached && this.container.getNode(resolve(path)) != null;
+    }
+
+    @Override
+    public Optional<Object> get(DataQuery path) {
+        checkNotNull(path, "path");
+        if (this.detached) {
+            return Optional.empty();
+        }
+        final Object object = this.container.getNode(resolve(path));
+        if (object == null) {
+            return Optional.empty();
+        }
+        if (this.safety == SafetyMode.ALL_DATA_CLONED && object.getClass().isArray()) {
+            return Optional.of(cloneArray(object));
+        }
+        return Optional.of(object);
+    }
+
+    @Override
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    public DataView set(DataQuery path, Object value) {
+        checkNotNull(path, "path");
+        checkNotNull(value, "value");
+        checkArgument(!path.getParts().isEmpty(), "The size of the query must be at least 1");
+        checkState(!this.detached, "This view has been removed from its container");
+
+        @Nullable DataManager manager = tryGetDataManager();
+
+        if (value instanceof DataView) {
+            checkArgument(value != this, "Cannot set a DataView to itself.");
+            // always have to copy a data view to avoid overwriting existing
+            // views and to set the interior path correctly.
+            copyDataView(path, (DataView) value);
+        } else if (value instanceof DataSerializable) {
+            DataContainer valueContainer = ((DataSerializable) value).toContainer();
+            checkArgument(!(valueContainer).equals(this), "Cannot insert self-referencing DataSerializable");
+            // see above for why this is copied
+            copyDataView(path, valueContainer);
+        } else if (value instanceof CatalogType) {
+            return set(path, ((CatalogType) value).getId());
+        } else if (manager != null && manager.getTranslator(value.getClass()).isPresent()) {
+            DataTranslator serializer = manager.getTranslator(value.getClass()).get();
+            final DataContainer container = serializer.translate(value);
+            checkArgument(!container.equals(this), "Cannot insert self-referencing Objects!");
+            // see above for why this is copied
+            copyDataView(path, container);
+        } else if (value instanceof Collection) {
+            setValue(path, serializeCollection((Collection) value));
+        } else if (value instanceof Map) {
+            setMap(path, (Map) value);
+        } else if (value.getClass().isArray()
+                && (this.safety == SafetyMode.ALL_DATA_CLONED || this.safety == SafetyMode.CLONED_ON_SET)) {
+            setValue(path, cloneArray(value));
+        } else {
+            setValue(path, value);
+        }
+        return this;
+    }
+
+    private void setValue(DataQuery path, Object value) {
+        final DataQuery fullPath = resolve(path);
+        this.container.put(this.container.ensureView(fullPath.pop()), fullPath, value);
+    }
+
+    private void setMap(DataQuery path, Map<?, ?> value) {
+        DataView view = createView(path);
+        for (Map.Entry<?, ?> entry : value.entrySet()) {
+            view.set(of(entry.getKey().toString()), entry.getValue());
+        }
+    }
+
+    private void copyDataView(DataQuery path, DataView value) {
+        Collection<DataQuery> valueKeys = value.getKeys(true);
+        for (DataQuery oldKey : valueKeys) {
+            set(path.then(oldKey), value.get(oldKey).get());
+        }
+    }
+
+    @Override
+    public DataView remove(DataQuery path) {
+        checkNotNull(path, "path");
+        checkArgument(!path.getParts().isEmpty(), "The size of the query must be at least 1");
+        checkState(!this.detached, "This view has been removed from its container");
+        this.container.removeNode(resolve(path));
+        return this;
+    }
+
+    @Override
+    public DataView createView(DataQuery path) {
+        checkNotNull(path, "path");
+        checkArgument(!path.getParts().isEmpty(), "The size of the query must be at least 1");
+        checkState(!this.detached, "This view has been removed from its container");
+        final DataQuery fullPath = resolve(path);
+        final FlatDataView parent = this.container.ensureView(fullPath.pop());
+        final FlatDataView view = new FlatDataView(parent, fullPath);
+        this.container.put(parent, fullPath, view);
+        return view;
+    }
+
+    @Override
+    public DataContainer copy() {
+        return copy(this.safety);
+    }
+
+    @Override
+    public DataContainer copy(SafetyMode safety) {
+        final DataContainer container = createContainer(safety);
+        getKeys(false).forEach(query ->
+                get(query).ifPresent(obj ->
+                        container.set(query, obj)
+                )
+        );
+        return container;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return this.children.isEmpty();
+    }
+
+    @Override
+    public SafetyMode getSafetyMode() {
+        return this.safety;
+    }
+
+    /**
+     * Gets the contents of this view as nested maps keyed by name, in the
+     * same shape a {@link MemoryDataView} stores them.
+     *
+     * @return The nested contents
+     */
+    private Map<String, Object> toNestedMap() {
+        final Map<String, Object> map = Maps.newLinkedHashMap();
+        for (DataQuery child : this.children) {
+            final List<String> parts = child.getParts();
+            final Object node = this.container.index.get(child);
+            map.put(parts.get(parts.size() - 1), node instanceof FlatDataView ? ((FlatDataView) node).toNestedMap() : node);
+        }
+        return map;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(toNestedMap(), this.path);
+    }
+
+    @Override
+    public boolean equals(@Nullable Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        final FlatDataView other = (FlatDataView) obj;
+
+        return Objects.equal(this.path, other.path)
+               && Objects.equal(toNestedMap(), other.toNestedMap());
+    }
+
+    @Override
+    public String toString() {
+        final MoreObjects.ToStringHelper helper = MoreObjects.toStringHelper(this);
+        if (!this.path.toString().isEmpty()) {
+            helper.add("path", this.path);
+        }
+        helper.add("safety", this.safety.name());
+        return helper.add("map", toNestedMap()).toString();
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data.persistence;
+
+import org.spongepowered.api.data.DataContainer;
+import org.spongepowered.api.data.DataView;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.file.Path;
+
+/**
+ * Represents a {@link DataFormat} using a length-prefixed binary encoding.
+ *
+ * <p>Every view in the encoding is prefixed with its length in bytes, which
+ * allows the data to be read lazily: the contents of a view are only decoded
+ * once they are accessed, and views that are never accessed are skipped
+ * without being decoded at all. Likewise, data can be written entry by entry
+ * through a {@link DataStreamWriter} without first building the full
+ * {@link DataView} in memory. Since the length prefixes are filled in once a
+ * view is complete, such a writer needs a seekable target.</p>
+ */
+public interface BinaryDataFormat extends DataFormat {
+
+    /**
+     * Creates a new {@link DataContainer} which lazily decodes the contents
+     * of the given {@link ByteBuffer}.
+     *
+     * <p>The container reads directly from the buffer, starting at its
+     * current position, instead of copying it. The contents of the buffer
+     * must therefore not be changed for as long as the container is in
+     * use.</p>
+     *
+     * @param buffer The buffer to read from
+     * @return A data container representing the contents of the buffer
+     * @throws InvalidDataFormatException If the data in the buffer was not a
+     *         supported format
+     * @throws IOException If there was an error reading from the buffer
+     */
+    DataContainer readLazily(ByteBuffer buffer) throws InvalidDataFormatException, IOException;
+
+    /**
+     * Creates a new {@link DataContainer} which lazily decodes the contents
+     * of the file at the given {@link Path}.
+     *
+     * <p>The file is memory-mapped where possible, so only the parts of the
+     * file which are accessed are read from disk. The file must therefore
+     * not be changed for as long as the container is in use.</p>
+     *
+     * @param path The path of the file to read from
+     * @return A data container representing the contents of the file
+     * @throws InvalidDataFormatException If the data in the file was not a
+     *         supported format
+     * @throws IOException If there was an error reading from the file
+     */
+    DataContainer readLazily(Path path) throws InvalidDataFormatException, IOException;
+
+    /**
+     * Creates a new {@link DataStreamWriter} which writes data to the given
+     * {@link SeekableByteChannel}, starting at its current position, using
+     * the format specified by this {@link DataFormat}.
+     *
+     * <p>The length of a view is only known once it is closed, so the writer
+     * reserves space for the length prefix when the view is opened and seeks
+     * back to fill it in when the view is closed. Only the positions of the
+     * views that are currently open are held in memory, never their
+     * contents.</p>
+     *
+     * @param channel The channel to write the data to
+     * @return The new writer
+     * @throws IOException If there was an error writing to the channel
+     */
+    DataStreamWriter createWriter(SeekableByteChannel channel) throws IOException;
+
+    /**
+     * Creates a new {@link DataStreamWriter} which writes data to the file at
+     * the given {@link Path}, replacing its contents, using the format
+     * specified by this {@link DataFormat}.
+     *
+     * @param path The path of the file to write to
+     * @return The new writer
+     * @throws IOException If there was an error opening or writing to the
+     *         file
+     * @see #createWriter(SeekableByteChannel)
+     */
+    DataStreamWriter createWriter(Path path) throws IOException;
+
+}
@@ -33,6 +33,8 @@ public final class DataFormats {
 
     // SORTFIELDS:ON
 
+    public static final BinaryDataFormat BINARY = DummyObjectProvider.createFor(BinaryDataFormat.class, "BINARY");
+
     public static final StringDataFormat HOCON = DummyObjectProvider.createFor(StringDataFormat.class, "HOCON");
 
     public static final StringDataFormat JSON = DummyObjectProvider.createFor(StringDataFormat.class, "JSON");
@@ -0,0 +1,106 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data.persistence;
+
+import org.spongepowered.api.data.DataQuery;
+import org.spongepowered.api.data.DataView;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+
+/**
+ * Writes data in a streaming fashion, one entry at a time, so that the
+ * written data never has to be held in memory as a whole.
+ *
+ * <p>Entries are written to the view that is currently open, starting with
+ * the root view. Nested views are opened with {@link #beginView(String)} and
+ * have to be closed again with {@link #endView()} once all of their entries
+ * have been written.</p>
+ *
+ * @see BinaryDataFormat#createWriter(java.nio.channels.SeekableByteChannel)
+ */
+public interface DataStreamWriter extends Closeable, Flushable {
+
+    /**
+     * Opens a new view with the given name within the current view. All
+     * following entries are written to the new view until it is closed
+     * again with {@link #endView()}.
+     *
+     * @param name The name of the view
+     * @return This writer, for chaining
+     * @throws IOException If there was an error writing to the underlying
+     *         channel
+     */
+    DataStreamWriter beginView(String name) throws IOException;
+
+    /**
+     * Closes the view that is currently open and continues with its
+     * parent view.
+     *
+     * @return This writer, for chaining
+     * @throws IllegalStateException If the current view is the root view
+     * @throws IOException If there was an error writing to the underlying
+     *         channel
+     */
+    DataStreamWriter endView() throws IOException;
+
+    /**
+     * Writes the given value with the given name to the current view.
+     *
+     * <p>The value may be anything that can be set on a {@link DataView},
+     * see {@link DataView#set(DataQuery, Object)}. {@link DataView}s are
+     * written as nested views.</p>
+     *
+     * @param name The name of the value
+     * @param value The value to write
+     * @return This writer, for chaining
+     * @throws IllegalArgumentException If the value can not be written
+     * @throws IOException If there was an error writing to the underlying
+     *         channel
+     */
+    DataStreamWriter write(String name, Object value) throws IOException;
+
+    /**
+     * Writes all entries of the given {@link DataView} to the current view.
+     *
+     * @param view The view to write
+     * @return This writer, for chaining
+     * @throws IOException If there was an error writing to the underlying
+     *         channel
+     */
+    DataStreamWriter writeAll(DataView view) throws IOException;
+
+    /**
+     * Closes all views that are still open, finishes writing and closes the
+     * underlying channel.
+     *
+     * @throws IOException If there was an error writing to the underlying
+     *         channel
+     */
+    @Override
+    void close() throws IOException;
+
+}
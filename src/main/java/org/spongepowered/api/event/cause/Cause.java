@@ -45,6 +45,8 @@
 import java.util.Optional;
 import java.util.Set;
 import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.annotation.Nullable;
 
@@ -136,12 +138,22 @@ public static Cause of(Iterable<NamedCause> iterable) {
         return builder.build();
     }
 
+    private static final int[] NO_INDICES = new int[0];
+
+    // The backing arrays may be longer than this cause and shared with
+    // causes derived from it, only the first size elements belong to this
+    // cause
     final Object[] cause;
     final String[] names;
+    final int size;
+    // The number of elements of the backing arrays which are claimed by
+    // a cause, only the cause ending at that element may append in place
+    private final AtomicInteger claimed;
 
     // lazy load
     @Nullable private Map<String, Object> namedObjectMap;
     @Nullable private ImmutableList<Object> immutableCauses;
+    @Nullable private volatile Map<Class<?>, int[]> typeIndices;
 
     Cause(NamedCause[] causes) {
         // basically, no validation, all the validation should take place calling this constructor
@@ -155,6 +167,73 @@ public static Cause of(Iterable<NamedCause> iterable) {
         }
         this.cause = objects;
         this.names = names;
+        this.size = causes.length;
+        this.claimed = new AtomicInteger(causes.length);
+    }
+
+    private Cause(Object[] objects, String[] names, int size, AtomicInteger claimed) {
+        this.cause = objects;
+        this.names = names;
+        this.size = size;
+        this.claimed = claimed;
+    }
+
+    /**
+     * Gets the indices of all objects that are instances of the given
+     * {@link Class}, in ascending order. The indices are computed once per
+     * class, as event filters tend to query the same types repeatedly.
+     *
+     * @param target The class of the target type
+     * @return The indices
+     */
+    private int[] indicesOf(Class<?> target) {
+        Map<Class<?>, int[]> typeIndices = this.typeIndices;
+        if (typeIndices == null) {
+            this.typeIndices = typeIndices = new ConcurrentHashMap<>(4);
+        }
+        int[] indices = typeIndices.get(target);
+        if (indices == null) {
+            int count = 0;
+            int[] found = new int[this.size];
+            for (int i = 0; i < this.size; i++) {
+                if (target.isInstance(this.cause[i])) {
+                    found[count++] = i;
+                }
+            }
+            indices = count == 0 ? NO_INDICES : Arrays.copyOf(found, count);
+            typeIndices.put(target, indices);
+        }
+        return indices;
+    }
+
+    /**
+     * Creates a new {@link Cause} with the given names and objects added at
+     * the end. If this cause is the last one to have added elements to its
+     * backing arrays and they have room left, the new elements are written
+     * into them and the arrays are shared instead of copied.
+     */
+    private Cause append(String[] names, Object[] objects, int count) {
+        final int newSize = this.size + count;
+        if (newSize <= this.cause.length && this.claimed.compareAndSet(this.size, newSize)) {
+            System.arraycopy(names, 0, this.names, this.size, count);
+            System.arraycopy(objects, 0, this.cause, this.size, count);
+            return new Cause(this.cause, this.names, newSize, this.claimed);
+        }
+        final int capacity = newSize + (newSize >> 1);
+        final String[] newNames = Arrays.copyOf(this.names, capacity);
+        final Object[] newObjects = Arrays.copyOf(this.cause, capacity);
+        System.arraycopy(names, 0, newNames, this.size, count);
+        System.arraycopy(objects, 0, newObjects, this.size, count);
+        return new Cause(newObjects, newNames, newSize, new AtomicInteger(newSize));
+    }
+
+    private boolean hasName(String name) {
+        for (int i = 0; i < this.size; i++) {
+            if (this.names[i].equals(name)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
@@ -177,12 +256,8 @@ public Object root() {
      * @return The first element of the type, if available
      */
     public <T> Optional<T> first(Class<T> target) {
-        for (Object aCause : this.cause) {
-            if (target.isInstance(aCause)) {
-                return Optional.of((T) aCause);
-            }
-        }
-        return Optional.empty();
+        final int[] indices = indicesOf(target);
+        return indices.length == 0 ? Optional.empty() : Optional.of((T) this.cause[indices[0]]);
     }
 
     /**
@@ -194,12 +269,8 @@ public <T> Optional<T> first(Class<T> target) {
      * @return The last element of the type, if available
      */
     public <T> Optional<T> last(Class<T> target) {
-        for (int i = this.cause.length - 1; i >= 0; i--) {
-            if (target.isInstance(this.cause[i])) {
-                return Optional.of((T) this.cause[i]);
-            }
-        }
-        return Optional.empty();
+        final int[] indices = indicesOf(target);
+        return indices.length == 0 ? Optional.empty() : Optional.of((T) this.cause[indices[indices.length - 1]]);
     }
 
     /**
@@ -214,7 +285,7 @@ public <T> Optional<T> last(Class<T> target) {
     public <T> Optional<T> get(String named, Class<T> expected) {
         checkArgument(named != null, "The name cannot be null!");
         checkArgument(expected != null, "The expected class cannot be null!");
-        for (int i = 0; i < this.names.length; i++) {
+        for (int i = 0; i < this.size; i++) {
             if (this.names[i].equalsIgnoreCase(named)) {
                 final Object object = this.cause[i];
                 if (expected.isInstance(object)) {
@@ -235,11 +306,11 @@ public <T> Optional<T> get(String named, Class<T> expected) {
      */
     public Optional<?> before(Class<?> clazz) {
         checkArgument(clazz != null, "The provided class cannot be null!");
-        if (this.cause.length == 1) {
+        if (this.size == 1) {
             return Optional.empty();
         }
-        for (int i = 0; i < this.cause.length; i++) {
-            if (clazz.isInstance(this.cause[i]) && i > 0) {
+        for (int i : indicesOf(clazz)) {
+            if (i > 0) {
                 return Optional.of(this.cause[i - 1]);
             }
         }
@@ -255,10 +326,10 @@ public Optional<?> before(Class<?> clazz) {
      */
     public Optional<?> before(String named) {
         checkArgument(named != null, "The name cannot be null!");
-        if (this.cause.length == 1) {
+        if (this.size == 1) {
             return Optional.empty();
         }
-        for (int i = 0; i < this.names.length; i++) {
+        for (int i = 0; i < this.size; i++) {
             if (this.names[i].equalsIgnoreCase(named)) {
                 try {
                     final Object object = this.cause[i - 1];
@@ -280,13 +351,12 @@ public Optional<?> before(String named) {
      */
     public Optional<?> after(Class<?> clazz) {
         checkArgument(clazz != null, "The provided class cannot be null!");
-        if (this.cause.length == 1) {
+        if (this.size == 1) {
             return Optional.empty();
         }
-        for (int i = 0; i < this.cause.length; i++) {
-            if (clazz.isInstance(this.cause[i]) && i + 1 < this.cause.length) {
-                return Optional.of(this.cause[i + 1]);
-            }
+        final int[] indices = indicesOf(clazz);
+        if (indices.length != 0 && indices[0] + 1 < this.size) {
+            return Optional.of(this.cause[indices[0] + 1]);
         }
         return Optional.empty();
     }
@@ -299,11 +369,11 @@ public Optional<?> after(Class<?> clazz) {
      */
     public Optional<?> after(String named) {
         checkArgument(named != null, "The name cannot be null!");
-        if (this.cause.length == 1) {
+        if (this.size == 1) {
             return Optional.empty();
         }
-        for (int i = 0; i < this.names.length; i++) {
-            if (this.names[i].equalsIgnoreCase(named) && i + 1 < this.cause.length) {
+        for (int i = 0; i < this.size; i++) {
+            if (this.names[i].equalsIgnoreCase(named) && i + 1 < this.size) {
                 try {
                     final Object object = this.cause[i + 1];
                     return Optional.of(object);
@@ -322,13 +392,7 @@ public Optional<?> after(String named) {
      */
     public boolean containsType(Class<?> target) {
         checkArgument(target != null, "The provided class cannot be null!");
-        for (Object aCause : this.cause) {
-            if (target.isInstance(aCause)) {
-                return true;
-            }
-        }
-
-        return false;
+        return indicesOf(target).length != 0;
     }
 
     /**
@@ -340,8 +404,8 @@ public boolean containsType(Class<?> target) {
      * @return True if the object is contained within this cause
      */
     public boolean contains(Object object) {
-        for (Object aCause : this.cause) {
-            if (aCause.equals(object)) {
+        for (int i = 0; i < this.size; i++) {
+            if (this.cause[i].equals(object)) {
                 return true;
             }
         }
@@ -356,8 +420,8 @@ public boolean contains(Object object) {
      */
     public boolean containsNamed(String named) {
         checkArgument(named != null, "The name cannot be null!");
-        for (String name : this.names) {
-            if (name.equalsIgnoreCase(named)) {
+        for (int i = 0; i < this.size; i++) {
+            if (this.names[i].equalsIgnoreCase(named)) {
                 return true;
             }
         }
@@ -373,13 +437,12 @@ public boolean containsNamed(String named) {
      * @return An immutable list of the objects queried
      */
     public <T> List<T> allOf(Class<T> target) {
-        ImmutableList.Builder<T> builder = ImmutableList.builder();
-        for (Object aCause : this.cause) {
-            if (target.isInstance(aCause)) {
-                builder.add((T) aCause);
-            }
+        final int[] indices = indicesOf(target);
+        final Object[] objects = new Object[indices.length];
+        for (int i = 0; i < indices.length; i++) {
+            objects[i] = this.cause[indices[i]];
         }
-        return builder.build();
+        return (List<T>) ImmutableList.copyOf(objects);
     }
 
     /**
@@ -391,9 +454,9 @@ public <T> List<T> allOf(Class<T> target) {
      */
     public List<Object> noneOf(Class<?> ignoredClass) {
         ImmutableList.Builder<Object> builder = ImmutableList.builder();
-        for (Object cause : this.cause) {
-            if (!ignoredClass.isInstance(cause)) {
-                builder.add(cause);
+        for (int i = 0; i < this.size; i++) {
+            if (!ignoredClass.isInstance(this.cause[i])) {
+                builder.add(this.cause[i]);
             }
         }
         return builder.build();
@@ -406,7 +469,7 @@ public List<Object> noneOf(Class<?> ignoredClass) {
      */
     public List<Object> all() {
         if (this.immutableCauses == null) {
-            this.immutableCauses = ImmutableList.copyOf(this.cause);
+            this.immutableCauses = ImmutableList.copyOf(Arrays.asList(this.cause).subList(0, this.size));
         }
         return this.immutableCauses;
     }
@@ -438,12 +501,25 @@ public Cause with(NamedCause additional, NamedCause... additionals) {
      * @return The new cause
      */
     public Cause with(Iterable<NamedCause> iterable) {
-        Cause.Builder builder = new Builder().from(this);
+        checkNotNull(iterable, "iterable");
+        final List<NamedCause> additions = new ArrayList<>();
+        final Set<String> namesUsed = new HashSet<>();
         for (NamedCause o : iterable) {
             checkArgument(o != null, "Cannot add null causes");
-            builder.named(o);
+            checkArgument(!hasName(o.getName()) && namesUsed.add(o.getName()), "Already contains an entry for: {}", o.getName());
+            additions.add(o);
         }
-        return builder.build();
+        final int count = additions.size();
+        if (count == 0) {
+            return this;
+        }
+        final String[] names = new String[count];
+        final Object[] objects = new Object[count];
+        for (int i = 0; i < count; i++) {
+            names[i] = additions.get(i).getName();
+            objects[i] = additions.get(i).getCauseObject();
+        }
+        return append(names, objects, count);
     }
 
     /**
@@ -455,11 +531,18 @@ public Cause with(Iterable<NamedCause> iterable) {
      * @return The new merged cause
      */
     public Cause merge(Cause cause) {
-        Cause.Builder builder = builder().from(this);
-        for (int i = 0; i < cause.cause.length; i++) {
-            builder.suggestNamed(cause.names[i], cause.cause[i]);
+        checkNotNull(cause, "cause");
+        final Set<String> namesUsed = new HashSet<>(Arrays.asList(this.names).subList(0, this.size));
+        final String[] names = new String[cause.size];
+        for (int i = 0; i < cause.size; i++) {
+            // Same renaming as Builder#suggestNamed
+            String name = cause.names[i];
+            for (int iteration = 1; !namesUsed.add(name); iteration++) {
+                name = cause.names[i] + iteration;
+            }
+            names[i] = name;
         }
-        return builder.build();
+        return append(names, cause.cause, cause.size);
     }
 
     /**
@@ -473,7 +556,7 @@ public Cause merge(Cause cause) {
     public Map<String, Object> getNamedCauses() {
         if (this.namedObjectMap == null) {
             final ImmutableMap.Builder<String, Object> builder = ImmutableMap.builder();
-            for (int i = 0; i < this.names.length; i++) {
+            for (int i = 0; i < this.size; i++) {
                 builder.put(this.names[i], this.cause[i]);
             }
             this.namedObjectMap = builder.build();
@@ -485,21 +568,33 @@ public Map<String, Object> getNamedCauses() {
     public boolean equals(@Nullable Object object) {
         if (object instanceof Cause) {
             Cause cause = ((Cause) object);
-            return Arrays.equals(this.cause, cause.cause);
+            if (this.size != cause.size) {
+                return false;
+            }
+            for (int i = 0; i < this.size; i++) {
+                if (!Objects.equal(this.cause[i], cause.cause[i])) {
+                    return false;
+                }
+            }
+            return true;
         }
         return false;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hashCode(this.cause);
+        int result = 1;
+        for (int i = 0; i < this.size; i++) {
+            result = 31 * result + this.cause[i].hashCode();
+        }
+        return result;
     }
 
     @Override
     public String toString() {
         String causeString = "Cause[";
         StringJoiner joiner = new StringJoiner(", ");
-        for (int i = 0; i < this.cause.length; i++) {
+        for (int i = 0; i < this.size; i++) {
             joiner.add("{Name=" + this.names[i] + ", Object={" + this.cause[i].toString() + "}}");
         }
         return causeString + joiner.toString() + "]";
@@ -636,7 +731,7 @@ public Cause build() {
 
         @Override
         public Builder from(Cause value) {
-            for (int i = 0; i < value.cause.length; i++) {
+            for (int i = 0; i < value.size; i++) {
                 this.causes.add(NamedCause.of(value.names[i], value.cause[i]));
                 this.namesUsed.add(value.names[i]);
             }
@@ -0,0 +1,331 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.item.recipe.crafting;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.primitives.Ints;
+import org.spongepowered.api.item.ItemType;
+import org.spongepowered.api.item.inventory.ItemStack;
+import org.spongepowered.api.item.inventory.crafting.CraftingGridInventory;
+import org.spongepowered.api.world.World;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+
+/**
+ * An immutable index of {@link CraftingRecipe}s, which finds the recipe
+ * matching a {@link CraftingGridInventory} without testing every recipe.
+ *
+ * <p>{@link ShapedCraftingRecipe}s and {@link ShapelessCraftingRecipe}s
+ * whose {@link Ingredient}s {@link Ingredient#getMatchedTypes() know the
+ * types they match} are indexed by these {@link ItemType}s. They are only
+ * tested against a grid if it contains the types required by each of their
+ * ingredients, no other types, and if the grid's items fit the recipe's
+ * shape or count. Other recipes are tested against every grid.</p>
+ *
+ * <p>The result found for each grid is remembered along with the items in
+ * the grid and the world. While neither of them changed, the same result is
+ * returned without testing any recipe, so recipes must only depend on the
+ * items in the grid and on the world.</p>
+ *
+ * <p>The index doesn't change once built, so
+ * {@link CraftingRecipeRegistry registries} using it should build a new one
+ * whenever a recipe is registered.</p>
+ */
+public final class CraftingRecipeIndex {
+
+    /**
+     * Builds an index of the given recipes. If several recipes match a grid,
+     * the first one in the given order is found.
+     *
+     * @param recipes The recipes to index
+     * @return The recipe index
+     */
+    public static CraftingRecipeIndex of(Iterable<? extends CraftingRecipe> recipes) {
+        return new CraftingRecipeIndex(ImmutableList.copyOf(checkNotNull(recipes, "recipes")));
+    }
+
+    private final ImmutableList<CraftingRecipe> recipes;
+    private final Constraints[] constraints;
+    private final Map<ItemType, int[]> byType;
+    private final BitSet unindexed = new BitSet();
+    private final Cache<CraftingGridInventory, Match> lastMatches = Caffeine.newBuilder().weakKeys().build();
+
+    private CraftingRecipeIndex(ImmutableList<CraftingRecipe> recipes) {
+        this.recipes = recipes;
+        this.constraints = new Constraints[recipes.size()];
+        final Map<ItemType, List<Integer>> byType = new HashMap<>();
+        for (int i = 0; i < recipes.size(); i++) {
+            final Constraints constraints = Constraints.of(recipes.get(i));
+            this.constraints[i] = constraints;
+            if (constraints.keyTypes == null) {
+                this.unindexed.set(i);
+            } else {
+                for (ItemType type : constraints.keyTypes) {
+                    byType.computeIfAbsent(type, key -> new ArrayList<>()).add(i);
+                }
+            }
+        }
+        final ImmutableMap.Builder<ItemType, int[]> builder = ImmutableMap.builder();
+        byType.forEach((type, indices) -> builder.put(type, Ints.toArray(indices)));
+        this.byType = builder.build();
+    }
+
+    /**
+     * Gets the indexed recipes, in order.
+     *
+     * @return The recipes
+     */
+    public List<CraftingRecipe> getRecipes() {
+        return this.recipes;
+    }
+
+    /**
+     * Finds the first recipe which {@link CraftingRecipe#isValid is valid}
+     * for the given grid.
+     *
+     * @param grid The crafting grid
+     * @param world The world the player is in
+     * @return The found {@link CraftingRecipe}, or {@link Optional#empty()}
+     *         if no recipe was found for this configuration
+     * @see CraftingRecipeRegistry#findMatchingRecipe(CraftingGridInventory, World)
+     */
+    public Optional<CraftingRecipe> findMatchingRecipe(CraftingGridInventory grid, World world) {
+        checkNotNull(grid, "grid");
+        checkNotNull(world, "world");
+        final GridContents contents = new GridContents(grid);
+        final Match lastMatch = this.lastMatches.getIfPresent(grid);
+        if (lastMatch != null && lastMatch.world == world && lastMatch.hasItems(contents)) {
+            return lastMatch.index < 0 ? Optional.empty() : Optional.of(this.recipes.get(lastMatch.index));
+        }
+        final BitSet candidates = (BitSet) this.unindexed.clone();
+        for (ItemType type : contents.types) {
+            final int[] indices = this.byType.get(type);
+            if (indices != null) {
+                for (int index : indices) {
+                    candidates.set(index);
+                }
+            }
+        }
+        for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i + 1)) {
+            final CraftingRecipe recipe = this.recipes.get(i);
+            if (this.constraints[i].allow(contents) && recipe.isValid(grid, world)) {
+                this.lastMatches.put(grid, new Match(world, contents, i));
+                return Optional.of(recipe);
+            }
+        }
+        this.lastMatches.put(grid, new Match(world, contents, -1));
+        return Optional.empty();
+    }
+
+    /**
+     * The types, count and bounds of the items in a grid.
+     */
+    private static final class GridContents {
+
+        // The items by slot, null for empty slots
+        final ItemStack[] stacks;
+        final Set<ItemType> types = new HashSet<>();
+        int count;
+        int width;
+        int height;
+
+        GridContents(CraftingGridInventory grid) {
+            int minX = Integer.MAX_VALUE;
+            int minY = Integer.MAX_VALUE;
+            int maxX = -1;
+            int maxY = -1;
+            this.stacks = new ItemStack[grid.getRows() * grid.getColumns()];
+            for (int y = 0; y < grid.getRows(); y++) {
+                for (int x = 0; x < grid.getColumns(); x++) {
+                    final Optional<ItemStack> stack = grid.peek(x, y);
+                    if (stack.isPresent() && !stack.get().isEmpty()) {
+                        this.stacks[y * grid.getColumns() + x] = stack.get();
+                        this.types.add(stack.get().getItem());
+                        this.count++;
+                        minX = Math.min(minX, x);
+                        minY = Math.min(minY, y);
+                        maxX = Math.max(maxX, x);
+                        maxY = Math.max(maxY, y);
+                    }
+                }
+            }
+            this.width = maxX < 0 ? 0 : maxX - minX + 1;
+            this.height = maxY < 0 ? 0 : maxY - minY + 1;
+        }
+    }
+
+    /**
+     * The result found for a grid, with copies of the items it was found for.
+     */
+    private static final class Match {
+
+        final World world;
+        final ItemStack[] stacks;
+        // The index of the found recipe, or -1 if none was found
+        final int index;
+
+        Match(World world, GridContents contents, int index) {
+            this.world = world;
+            this.stacks = new ItemStack[contents.stacks.length];
+            for (int i = 0; i < this.stacks.length; i++) {
+                // Copied, as the items in a grid may be changed in place
+                this.stacks[i] = contents.stacks[i] == null ? null : contents.stacks[i].copy();
+            }
+            this.index = index;
+        }
+
+        boolean hasItems(GridContents contents) {
+            if (this.stacks.length != contents.stacks.length) {
+                return false;
+            }
+            for (int i = 0; i < this.stacks.length; i++) {
+                final ItemStack stack = this.stacks[i];
+                final ItemStack other = contents.stacks[i];
+                if (stack == null ? other != null : other == null || !stack.equalTo(other)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * The conditions a grid must meet for a recipe to possibly be valid.
+     */
+    private static final class Constraints {
+
+        private static final Constraints NONE = new Constraints(Integer.MAX_VALUE, Integer.MAX_VALUE, -1, null);
+
+        static Constraints of(CraftingRecipe recipe) {
+            final List<Ingredient> ingredients = new ArrayList<>();
+            if (recipe instanceof ShapedCraftingRecipe) {
+                final ShapedCraftingRecipe shaped = (ShapedCraftingRecipe) recipe;
+                for (int y = 0; y < shaped.getHeight(); y++) {
+                    for (int x = 0; x < shaped.getWidth(); x++) {
+                        final Ingredient ingredient = shaped.getIngredient(x, y);
+                        if (ingredient != Ingredient.NONE) {
+                            ingredients.add(ingredient);
+                        }
+                    }
+                }
+                return new Constraints(shaped.getWidth(), shaped.getHeight(), -1, typesOf(ingredients));
+            } else if (recipe instanceof ShapelessCraftingRecipe) {
+                ingredients.addAll(((ShapelessCraftingRecipe) recipe).getIngredientPredicates());
+                return new Constraints(Integer.MAX_VALUE, Integer.MAX_VALUE, ingredients.size(), typesOf(ingredients));
+            }
+            return NONE;
+        }
+
+        @Nullable
+        private static List<Set<ItemType>> typesOf(List<Ingredient> ingredients) {
+            if (ingredients.isEmpty()) {
+                return null;
+            }
+            final List<Set<ItemType>> types = new ArrayList<>(ingredients.size());
+            for (Ingredient ingredient : ingredients) {
+                final Optional<Set<ItemType>> matchedTypes = ingredient.getMatchedTypes();
+                if (!matchedTypes.isPresent()) {
+                    return null;
+                }
+                types.add(matchedTypes.get());
+            }
+            return types;
+        }
+
+        private final int maxWidth;
+        private final int maxHeight;
+        private final int count;
+        // The types matched by each ingredient, null if some are unknown
+        @Nullable private final List<Set<ItemType>> ingredientTypes;
+        @Nullable private final Set<ItemType> allTypes;
+        // The types of the most selective ingredient, which the recipe is indexed by
+        @Nullable final Set<ItemType> keyTypes;
+
+        private Constraints(int maxWidth, int maxHeight, int count, @Nullable List<Set<ItemType>> ingredientTypes) {
+            this.maxWidth = maxWidth;
+            this.maxHeight = maxHeight;
+            this.count = count;
+            this.ingredientTypes = ingredientTypes;
+            if (ingredientTypes == null) {
+                this.allTypes = null;
+                this.keyTypes = null;
+            } else {
+                this.allTypes = new HashSet<>();
+                Set<ItemType> keyTypes = null;
+                for (Set<ItemType> types : ingredientTypes) {
+                    this.allTypes.addAll(types);
+                    if (keyTypes == null || types.size() < keyTypes.size()) {
+                        keyTypes = types;
+                    }
+                }
+                this.keyTypes = keyTypes;
+            }
+        }
+
+        boolean allow(GridContents contents) {
+            if (contents.width > this.maxWidth || contents.height > this.maxHeight) {
+                return false;
+            }
+            if (this.count != -1 && contents.count != this.count) {
+                return false;
+            }
+            if (this.ingredientTypes != null) {
+                if (!this.allTypes.containsAll(contents.types)) {
+                    return false;
+                }
+                for (Set<ItemType> types : this.ingredientTypes) {
+                    if (!containsAny(contents.types, types)) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+
+        private static boolean containsAny(Set<ItemType> present, Set<ItemType> types) {
+            for (ItemType type : types) {
+                if (present.contains(type)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+}
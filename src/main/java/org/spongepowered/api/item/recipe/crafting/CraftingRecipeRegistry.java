@@ -39,6 +39,9 @@ public interface CraftingRecipeRegistry extends RecipeRegistry<CraftingRecipe> {
      * Retrieves the recipe which would be crafted when the player clicks
      * the output slot.
      *
+     * <p>Implementations should avoid testing every recipe, for example by
+     * looking the recipe up in a {@link CraftingRecipeIndex}.</p>
+     *
      * @param grid The crafting grid
      * @param world The world the player is in
      * @return The found {@link CraftingRecipe}, or {@link Optional#empty()}
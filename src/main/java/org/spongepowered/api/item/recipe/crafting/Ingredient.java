@@ -35,6 +35,8 @@
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import javax.annotation.Nullable;
@@ -63,6 +65,23 @@ public interface Ingredient extends Predicate<ItemStack> {
      */
     List<ItemStackSnapshot> displayedItems();
 
+    /**
+     * Gets the {@link ItemType}s of all the items this ingredient can match,
+     * if they are known.
+     *
+     * <p>Unlike the {@link #displayedItems() displayed items}, these types
+     * must be exhaustive: this ingredient never matches an item of another
+     * type. They allow recipes to be looked up by the types of the items in a
+     * crafting grid, see {@link CraftingRecipeIndex}. Ingredients which match
+     * arbitrary predicates return {@link Optional#empty()}, which is the
+     * default.</p>
+     *
+     * @return The types of the items this ingredient can match, if known
+     */
+    default Optional<Set<ItemType>> getMatchedTypes() {
+        return Optional.empty();
+    }
+
     /**
      * Creates a new {@link Builder} to build an {@link Ingredient}.
      *
@@ -32,6 +32,7 @@
 import org.spongepowered.api.util.ResettableBuilder;
 
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 
 /**
@@ -66,6 +67,21 @@ static Builder builder() {
      */
     boolean isValid(ItemStackSnapshot ingredient);
 
+    /**
+     * Gets the {@link ItemType}s of all the ingredients for which
+     * {@link #isValid(ItemStackSnapshot)} may return {@code true}, if they
+     * are known.
+     *
+     * <p>These allow recipes to be looked up by the type of the ingredient,
+     * see {@link SmeltingRecipeIndex}. Recipes which match arbitrary
+     * predicates return {@link Optional#empty()}, which is the default.</p>
+     *
+     * @return The types of the valid ingredients, if known
+     */
+    default Optional<Set<ItemType>> getIngredientTypes() {
+        return Optional.empty();
+    }
+
     /**
      * <p>Returns the {@link SmeltingResult} containing the resulting
      * {@link ItemStackSnapshot} and the amount of experience released.</p>
@@ -0,0 +1,130 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.item.recipe.smelting;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.primitives.Ints;
+import org.spongepowered.api.item.ItemType;
+import org.spongepowered.api.item.inventory.ItemStackSnapshot;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * An immutable index of {@link SmeltingRecipe}s, which finds the recipe
+ * for an ingredient without testing every recipe.
+ *
+ * <p>Recipes which {@link SmeltingRecipe#getIngredientTypes() know the
+ * types of their ingredients} are indexed by these {@link ItemType}s, and
+ * are only tested against ingredients of these types. Other recipes are
+ * tested against every ingredient.</p>
+ *
+ * <p>The index doesn't change once built, so
+ * {@link SmeltingRecipeRegistry registries} using it should build a new one
+ * whenever a recipe is registered.</p>
+ */
+public final class SmeltingRecipeIndex {
+
+    /**
+     * Builds an index of the given recipes. If several recipes are valid for
+     * an ingredient, the first one in the given order is found.
+     *
+     * @param recipes The recipes to index
+     * @return The recipe index
+     */
+    public static SmeltingRecipeIndex of(Iterable<? extends SmeltingRecipe> recipes) {
+        return new SmeltingRecipeIndex(ImmutableList.copyOf(checkNotNull(recipes, "recipes")));
+    }
+
+    private final ImmutableList<SmeltingRecipe> recipes;
+    private final Map<ItemType, int[]> byType;
+    private final BitSet unindexed = new BitSet();
+
+    private SmeltingRecipeIndex(ImmutableList<SmeltingRecipe> recipes) {
+        this.recipes = recipes;
+        final Map<ItemType, List<Integer>> byType = new HashMap<>();
+        for (int i = 0; i < recipes.size(); i++) {
+            final Optional<Set<ItemType>> types = recipes.get(i).getIngredientTypes();
+            if (types.isPresent()) {
+                for (ItemType type : types.get()) {
+                    byType.computeIfAbsent(type, key -> new ArrayList<>()).add(i);
+                }
+            } else {
+                this.unindexed.set(i);
+            }
+        }
+        final ImmutableMap.Builder<ItemType, int[]> builder = ImmutableMap.builder();
+        byType.forEach((type, indices) -> builder.put(type, Ints.toArray(indices)));
+        this.byType = builder.build();
+    }
+
+    /**
+     * Gets the indexed recipes, in order.
+     *
+     * @return The recipes
+     */
+    public List<SmeltingRecipe> getRecipes() {
+        return this.recipes;
+    }
+
+    /**
+     * Finds the first recipe which {@link SmeltingRecipe#isValid is valid}
+     * for the given ingredient.
+     *
+     * @param ingredient The ingredient to check against
+     * @return The found {@link SmeltingRecipe}, or {@link Optional#empty()}
+     *         if no recipe was found for this {@link ItemStackSnapshot}
+     * @see SmeltingRecipeRegistry#findMatchingRecipe(ItemStackSnapshot)
+     */
+    public Optional<SmeltingRecipe> findMatchingRecipe(ItemStackSnapshot ingredient) {
+        checkNotNull(ingredient, "ingredient");
+        final int[] indices = this.byType.get(ingredient.getType());
+        final BitSet candidates;
+        if (indices == null) {
+            candidates = this.unindexed;
+        } else {
+            candidates = (BitSet) this.unindexed.clone();
+            for (int index : indices) {
+                candidates.set(index);
+            }
+        }
+        for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i + 1)) {
+            final SmeltingRecipe recipe = this.recipes.get(i);
+            if (recipe.isValid(ingredient)) {
+                return Optional.of(recipe);
+            }
+        }
+        return Optional.empty();
+    }
+
+}
@@ -37,6 +37,9 @@ public interface SmeltingRecipeRegistry extends RecipeRegistry<SmeltingRecipe> {
     /**
      * Retrieves the recipe used when smelting the given ingredient.
      *
+     * <p>Implementations should avoid testing every recipe, for example by
+     * looking the recipe up in a {@link SmeltingRecipeIndex}.</p>
+     *
      * @param ingredient The ingredient to check against
      * @return The found {@link SmeltingRecipe}, or {@link Optional#empty()}
      *         if no recipe was found for this {@link ItemStackSnapshot}
@@ -0,0 +1,621 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.profile;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.CacheWriter;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import org.spongepowered.api.scheduler.Scheduler;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import javax.annotation.Nullable;
+
+/**
+ * A {@link GameProfileCache} which keeps a bounded number of profiles in
+ * memory, backed by a Caffeine cache.
+ *
+ * <p>Profiles are evicted once the cache is full or once they are older than
+ * the {@link Builder#expireAfterWrite(Duration) expiration duration}, or the
+ * expiration date given to {@link #add(GameProfile, boolean, Date)} if that is
+ * sooner. Profiles which are still used are looked up again in the background
+ * once they are older than the {@link Builder#refreshAfterWrite(Duration)
+ * refresh duration}, so that they don't need to be looked up on demand when
+ * they expire.</p>
+ *
+ * <p>Lookups are made through a {@link GameProfileManager}, without its
+ * cache. Concurrent lookups of the same unique ids, names or profiles to fill
+ * are coalesced, so that each of them is only being looked up once at a
+ * time.</p>
+ *
+ * <p>Platforms may return this from
+ * {@link GameProfileManager#getDefaultCache()}.</p>
+ */
+public final class BoundedGameProfileCache implements GameProfileCache {
+
+    /**
+     * Creates a new {@link Builder} to build a {@link BoundedGameProfileCache}.
+     *
+     * @return The new builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    private final GameProfileManager manager;
+    private final long expireAfterWriteNanos;
+    private final LoadingCache<UUID, Entry> cache;
+    // Last known names in lower case, which may be stale and are verified against the cache
+    private final ConcurrentNavigableMap<String, UUID> names = new ConcurrentSkipListMap<>();
+    // The name each unique id is indexed under, to remove it once the name changes
+    private final ConcurrentMap<UUID, String> indexedNames = new ConcurrentHashMap<>();
+    private final ConcurrentMap<UUID, CompletableFuture<Optional<GameProfile>>> pendingLookups = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, CompletableFuture<Optional<GameProfile>>> pendingNameLookups = new ConcurrentHashMap<>();
+    private final ConcurrentMap<UUID, CompletableFuture<Optional<GameProfile>>> pendingFills = new ConcurrentHashMap<>();
+    private final ConcurrentMap<UUID, CompletableFuture<Optional<GameProfile>>> pendingSignedFills = new ConcurrentHashMap<>();
+
+    BoundedGameProfileCache(Builder builder) {
+        this.manager = builder.manager;
+        this.expireAfterWriteNanos = builder.expireAfterWrite.toNanos();
+        final Duration refreshAfterWrite = builder.refreshAfterWrite != null ? builder.refreshAfterWrite
+                : builder.expireAfterWrite.multipliedBy(3).dividedBy(4);
+        this.cache = Caffeine.newBuilder()
+                .executor(builder.executor)
+                .ticker(builder.ticker)
+                .maximumSize(builder.maximumSize)
+                .expireAfter(new EntryExpiry())
+                .refreshAfterWrite(Math.max(1, refreshAfterWrite.toNanos()), TimeUnit.NANOSECONDS)
+                .writer(new NameIndexWriter())
+                .recordStats()
+                .build(new Loader());
+    }
+
+    /**
+     * Gets the hit, miss and load statistics of this cache.
+     *
+     * <p>Only the lookups of profiles by their unique id through the
+     * {@code getById}, {@code getByIds}, {@code getOrLookupById} and
+     * {@code getOrLookupByIds} methods are recorded.</p>
+     *
+     * @return The statistics
+     */
+    public CacheStats getStats() {
+        return this.cache.stats();
+    }
+
+    @Override
+    public boolean add(GameProfile profile, boolean overwrite, @Nullable Date expiry) {
+        checkNotNull(profile, "profile");
+        final long expiresAt = expiry == null ? Long.MAX_VALUE : expiry.getTime();
+        if (expiresAt <= System.currentTimeMillis()) {
+            return false;
+        }
+        final Entry entry = new Entry(profile, expiresAt);
+        if (overwrite) {
+            this.cache.put(profile.getUniqueId(), entry);
+            return true;
+        }
+        return this.cache.asMap().putIfAbsent(profile.getUniqueId(), entry) == null;
+    }
+
+    @Override
+    public boolean remove(GameProfile profile) {
+        checkNotNull(profile, "profile");
+        return this.cache.asMap().remove(profile.getUniqueId()) != null;
+    }
+
+    @Override
+    public Collection<GameProfile> remove(Iterable<GameProfile> profiles) {
+        checkNotNull(profiles, "profiles");
+        final ImmutableList.Builder<GameProfile> removed = ImmutableList.builder();
+        for (GameProfile profile : profiles) {
+            if (remove(profile)) {
+                removed.add(profile);
+            }
+        }
+        return removed.build();
+    }
+
+    @Override
+    public void clear() {
+        this.cache.invalidateAll();
+    }
+
+    @Override
+    public Optional<GameProfile> getById(UUID uniqueId) {
+        checkNotNull(uniqueId, "uniqueId");
+        return profileOf(this.cache.getIfPresent(uniqueId));
+    }
+
+    @Override
+    public Map<UUID, Optional<GameProfile>> getByIds(Iterable<UUID> uniqueIds) {
+        checkNotNull(uniqueIds, "uniqueIds");
+        final Map<UUID, Entry> present = this.cache.getAllPresent(uniqueIds);
+        final Map<UUID, Optional<GameProfile>> result = new LinkedHashMap<>();
+        for (UUID uniqueId : uniqueIds) {
+            result.put(uniqueId, profileOf(present.get(uniqueId)));
+        }
+        return ImmutableMap.copyOf(result);
+    }
+
+    @Override
+    public Optional<GameProfile> lookupById(UUID uniqueId) {
+        return lookupByIds(ImmutableSet.of(uniqueId)).get(uniqueId);
+    }
+
+    @Override
+    public Map<UUID, Optional<GameProfile>> lookupByIds(Iterable<UUID> uniqueIds) {
+        checkNotNull(uniqueIds, "uniqueIds");
+        final Map<UUID, GameProfile> found = lookup(uniqueIds);
+        final Map<UUID, Optional<GameProfile>> result = new LinkedHashMap<>();
+        for (UUID uniqueId : uniqueIds) {
+            final GameProfile profile = found.get(uniqueId);
+            if (profile != null) {
+                this.cache.put(uniqueId, new Entry(profile, Long.MAX_VALUE));
+            }
+            result.put(uniqueId, Optional.ofNullable(profile));
+        }
+        return ImmutableMap.copyOf(result);
+    }
+
+    @Override
+    public Optional<GameProfile> getOrLookupById(UUID uniqueId) {
+        checkNotNull(uniqueId, "uniqueId");
+        return profileOf(this.cache.get(uniqueId));
+    }
+
+    @Override
+    public Map<UUID, Optional<GameProfile>> getOrLookupByIds(Iterable<UUID> uniqueIds) {
+        checkNotNull(uniqueIds, "uniqueIds");
+        final Map<UUID, Entry> entries = this.cache.getAll(uniqueIds);
+        final Map<UUID, Optional<GameProfile>> result = new LinkedHashMap<>();
+        for (UUID uniqueId : uniqueIds) {
+            result.put(uniqueId, profileOf(entries.get(uniqueId)));
+        }
+        return ImmutableMap.copyOf(result);
+    }
+
+    @Override
+    public Optional<GameProfile> getByName(String name) {
+        checkNotNull(name, "name");
+        final String key = name.toLowerCase(Locale.ENGLISH);
+        final UUID uniqueId = this.names.get(key);
+        if (uniqueId == null) {
+            return Optional.empty();
+        }
+        // Stale names are removed once the new name is indexed
+        return getById(uniqueId).filter(profile -> profile.getName().filter(name::equalsIgnoreCase).isPresent());
+    }
+
+    @Override
+    public Map<String, Optional<GameProfile>> getByNames(Iterable<String> names) {
+        checkNotNull(names, "names");
+        final Map<String, Optional<GameProfile>> result = new LinkedHashMap<>();
+        for (String name : names) {
+            result.put(name, getByName(name));
+        }
+        return ImmutableMap.copyOf(result);
+    }
+
+    @Override
+    public Optional<GameProfile> lookupByName(String name) {
+        checkNotNull(name, "name");
+        return lookupByNames(ImmutableList.of(name)).get(name);
+    }
+
+    @Override
+    public Map<String, Optional<GameProfile>> lookupByNames(Iterable<String> names) {
+        checkNotNull(names, "names");
+        final List<String> keys = new ArrayList<>();
+        for (String name : names) {
+            keys.add(name.toLowerCase(Locale.ENGLISH));
+        }
+        final Function<GameProfile, Optional<String>> keyOf = profile -> profile.getName().map(name -> name.toLowerCase(Locale.ENGLISH));
+        final Map<String, GameProfile> found = coalesce(keys, this.pendingNameLookups, pending -> this.manager.getAllByName(pending, false), keyOf);
+        found.values().forEach(this::add);
+        final Map<String, Optional<GameProfile>> result = new LinkedHashMap<>();
+        for (String name : names) {
+            result.put(name, Optional.ofNullable(found.get(name.toLowerCase(Locale.ENGLISH))));
+        }
+        return ImmutableMap.copyOf(result);
+    }
+
+    @Override
+    public Optional<GameProfile> getOrLookupByName(String name) {
+        final Optional<GameProfile> profile = getByName(name);
+        return profile.isPresent() ? profile : lookupByName(name);
+    }
+
+    @Override
+    public Map<String, Optional<GameProfile>> getOrLookupByNames(Iterable<String> names) {
+        final Map<String, Optional<GameProfile>> result = new LinkedHashMap<>(getByNames(names));
+        final ImmutableList<String> missing = result.entrySet().stream()
+                .filter(entry -> !entry.getValue().isPresent())
+                .map(Map.Entry::getKey)
+                .collect(ImmutableList.toImmutableList());
+        if (!missing.isEmpty()) {
+            result.putAll(lookupByNames(missing));
+        }
+        return ImmutableMap.copyOf(result);
+    }
+
+    @Override
+    public Optional<GameProfile> fillProfile(GameProfile profile, boolean signed) {
+        checkNotNull(profile, "profile");
+        if (!signed) {
+            final Optional<GameProfile> cached = getById(profile.getUniqueId());
+            if (cached.isPresent() && cached.get().isFilled()) {
+                return cached;
+            }
+        }
+        final UUID uniqueId = profile.getUniqueId();
+        final ConcurrentMap<UUID, CompletableFuture<Optional<GameProfile>>> pendingFills = signed ? this.pendingSignedFills : this.pendingFills;
+        final Map<UUID, GameProfile> found = coalesce(ImmutableList.of(uniqueId), pendingFills, pending -> fetchFilled(profile, signed),
+                BoundedGameProfileCache::uniqueIdOf);
+        final Optional<GameProfile> filled = Optional.ofNullable(found.get(uniqueId));
+        filled.ifPresent(value -> add(value, true, null));
+        return filled;
+    }
+
+    @Override
+    public Collection<GameProfile> getProfiles() {
+        return this.cache.asMap().values().stream()
+                .map(entry -> entry.profile)
+                .collect(ImmutableList.toImmutableList());
+    }
+
+    @Override
+    public Collection<GameProfile> match(String name) {
+        checkNotNull(name, "name");
+        final String prefix = name.toLowerCase(Locale.ENGLISH);
+        final ImmutableList.Builder<GameProfile> matches = ImmutableList.builder();
+        for (Map.Entry<String, UUID> entry : this.names.tailMap(prefix).entrySet()) {
+            if (!entry.getKey().startsWith(prefix)) {
+                break;
+            }
+            final Entry cached = this.cache.asMap().get(entry.getValue());
+            if (cached != null && cached.profile.getName().filter(entry.getKey()::equalsIgnoreCase).isPresent()) {
+                matches.add(cached.profile);
+            }
+        }
+        return matches.build();
+    }
+
+    private static Optional<GameProfile> profileOf(@Nullable Entry entry) {
+        return entry == null ? Optional.empty() : Optional.of(entry.profile);
+    }
+
+    private static <T> Optional<T> join(CompletableFuture<T> future) {
+        try {
+            return Optional.ofNullable(future.join());
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof ProfileNotFoundException) {
+                return Optional.empty();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Looks up the profiles with the given unique ids, joining the lookups
+     * which are already in progress for some of them instead of repeating
+     * them.
+     */
+    Map<UUID, GameProfile> lookup(Iterable<? extends UUID> uniqueIds) {
+        return coalesce(uniqueIds, this.pendingLookups, pending -> this.manager.getAllById(pending, false), BoundedGameProfileCache::uniqueIdOf);
+    }
+
+    private CompletableFuture<Collection<GameProfile>> fetchFilled(GameProfile profile, boolean signed) {
+        return this.manager.fill(profile, signed, false).thenApply(ImmutableList::of);
+    }
+
+    private static Optional<UUID> uniqueIdOf(GameProfile profile) {
+        return Optional.of(profile.getUniqueId());
+    }
+
+    /**
+     * Fetches the profiles for the given keys, joining the fetches which are
+     * already in progress for some of them instead of repeating them.
+     *
+     * @param keys The keys to fetch the profiles of
+     * @param pendingFetches The fetches in progress by their key
+     * @param fetch The function fetching the profiles of the keys which
+     *     aren't being fetched yet
+     * @param keyOf The function getting the key of a fetched profile
+     * @param <K> The type of the keys
+     * @return The found profiles by their key
+     */
+    private static <K> Map<K, GameProfile> coalesce(Iterable<? extends K> keys,
+            ConcurrentMap<K, CompletableFuture<Optional<GameProfile>>> pendingFetches,
+            Function<List<K>, CompletableFuture<? extends Collection<GameProfile>>> fetch, Function<GameProfile, Optional<K>> keyOf) {
+        final Map<K, CompletableFuture<Optional<GameProfile>>> futures = new LinkedHashMap<>();
+        final Map<K, CompletableFuture<Optional<GameProfile>>> owned = new LinkedHashMap<>();
+        for (K key : keys) {
+            if (futures.containsKey(key)) {
+                continue;
+            }
+            final CompletableFuture<Optional<GameProfile>> future = new CompletableFuture<>();
+            final CompletableFuture<Optional<GameProfile>> pending = pendingFetches.putIfAbsent(key, future);
+            if (pending == null) {
+                owned.put(key, future);
+                futures.put(key, future);
+            } else {
+                futures.put(key, pending);
+            }
+        }
+        if (!owned.isEmpty()) {
+            // Complete the owned futures before waiting on the others, so that
+            // concurrent lookups can never wait on each other
+            try {
+                join(fetch.apply(ImmutableList.copyOf(owned.keySet()))).ifPresent(profiles -> {
+                    for (GameProfile profile : profiles) {
+                        keyOf.apply(profile).map(owned::get).ifPresent(future -> future.complete(Optional.of(profile)));
+                    }
+                });
+                owned.values().forEach(future -> future.complete(Optional.empty()));
+            } catch (RuntimeException e) {
+                owned.values().forEach(future -> future.completeExceptionally(e));
+            } finally {
+                owned.forEach(pendingFetches::remove);
+            }
+        }
+        final Map<K, GameProfile> result = new HashMap<>();
+        futures.forEach((key, future) -> future.join().ifPresent(profile -> result.put(key, profile)));
+        return result;
+    }
+
+    private void index(UUID uniqueId, GameProfile profile) {
+        profile.getName().ifPresent(name -> {
+            final String key = name.toLowerCase(Locale.ENGLISH);
+            final String previous = this.indexedNames.put(uniqueId, key);
+            if (previous != null && !previous.equals(key)) {
+                this.names.remove(previous, uniqueId);
+            }
+            this.names.put(key, uniqueId);
+        });
+    }
+
+    private void unindex(UUID uniqueId, GameProfile profile) {
+        profile.getName().ifPresent(name -> {
+            final String key = name.toLowerCase(Locale.ENGLISH);
+            this.indexedNames.remove(uniqueId, key);
+            this.names.remove(key, uniqueId);
+        });
+    }
+
+    private static final class Entry {
+
+        final GameProfile profile;
+        final long expiresAt;
+
+        Entry(GameProfile profile, long expiresAt) {
+            this.profile = profile;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    private final class Loader implements CacheLoader<UUID, Entry> {
+
+        Loader() {
+        }
+
+        @Nullable
+        @Override
+        public Entry load(UUID key) {
+            return loadAll(ImmutableList.of(key)).get(key);
+        }
+
+        @Override
+        public Map<UUID, Entry> loadAll(Iterable<? extends UUID> keys) {
+            final Map<UUID, Entry> entries = new HashMap<>();
+            lookup(keys).forEach((uniqueId, profile) -> {
+                // The writer isn't notified of loaded and refreshed entries
+                index(uniqueId, profile);
+                entries.put(uniqueId, new Entry(profile, Long.MAX_VALUE));
+            });
+            return entries;
+        }
+    }
+
+    private final class EntryExpiry implements Expiry<UUID, Entry> {
+
+        EntryExpiry() {
+        }
+
+        private long expireAfter(Entry entry) {
+            if (entry.expiresAt == Long.MAX_VALUE) {
+                return BoundedGameProfileCache.this.expireAfterWriteNanos;
+            }
+            final long remaining = TimeUnit.MILLISECONDS.toNanos(Math.max(0, entry.expiresAt - System.currentTimeMillis()));
+            return Math.min(remaining, BoundedGameProfileCache.this.expireAfterWriteNanos);
+        }
+
+        @Override
+        public long expireAfterCreate(UUID key, Entry value, long currentTime) {
+            return expireAfter(value);
+        }
+
+        @Override
+        public long expireAfterUpdate(UUID key, Entry value, long currentTime, long currentDuration) {
+            return expireAfter(value);
+        }
+
+        @Override
+        public long expireAfterRead(UUID key, Entry value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+
+    private final class NameIndexWriter implements CacheWriter<UUID, Entry> {
+
+        NameIndexWriter() {
+        }
+
+        @Override
+        public void write(UUID key, Entry value) {
+            index(key, value.profile);
+        }
+
+        @Override
+        public void delete(UUID key, @Nullable Entry value, RemovalCause cause) {
+            if (value != null) {
+                unindex(key, value.profile);
+            }
+        }
+    }
+
+    /**
+     * A builder for {@link BoundedGameProfileCache}s.
+     */
+    public static final class Builder {
+
+        @Nullable GameProfileManager manager;
+        long maximumSize = 10000;
+        Duration expireAfterWrite = Duration.ofDays(30);
+        @Nullable Duration refreshAfterWrite;
+        @Nullable Executor executor;
+        Ticker ticker = Ticker.systemTicker();
+
+        Builder() {
+        }
+
+        /**
+         * Sets the {@link GameProfileManager} through which profiles are
+         * looked up. This is required.
+         *
+         * @param manager The profile manager
+         * @return This builder, for chaining
+         */
+        public Builder manager(GameProfileManager manager) {
+            this.manager = checkNotNull(manager, "manager");
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of profiles kept in the cache. Defaults to
+         * 10000.
+         *
+         * @param maximumSize The maximum size
+         * @return This builder, for chaining
+         */
+        public Builder maximumSize(long maximumSize) {
+            checkArgument(maximumSize >= 0, "The maximum size may not be negative");
+            this.maximumSize = maximumSize;
+            return this;
+        }
+
+        /**
+         * Sets how long profiles are kept after they were added or looked up,
+         * unless they are given a sooner expiration date. Defaults to 30
+         * days.
+         *
+         * @param duration The expiration duration
+         * @return This builder, for chaining
+         */
+        public Builder expireAfterWrite(Duration duration) {
+            checkNotNull(duration, "duration");
+            checkArgument(!duration.isNegative() && !duration.isZero(), "The duration must be positive");
+            this.expireAfterWrite = duration;
+            return this;
+        }
+
+        /**
+         * Sets how old profiles may get before they are looked up again in
+         * the background when they are used. Defaults to three quarters of
+         * the {@link #expireAfterWrite(Duration) expiration duration}.
+         *
+         * @param duration The refresh duration
+         * @return This builder, for chaining
+         */
+        public Builder refreshAfterWrite(Duration duration) {
+            checkNotNull(duration, "duration");
+            checkArgument(!duration.isNegative() && !duration.isZero(), "The duration must be positive");
+            this.refreshAfterWrite = duration;
+            return this;
+        }
+
+        /**
+         * Sets the {@link Executor} used to maintain the cache and to refresh
+         * profiles. Refreshes block on remote profile lookups, so it must be
+         * suited to blocking calls, such as an executor from
+         * {@link Scheduler#createAsyncExecutor(Object)}. This is required.
+         *
+         * @param executor The executor
+         * @return This builder, for chaining
+         */
+        public Builder executor(Executor executor) {
+            this.executor = checkNotNull(executor, "executor");
+            return this;
+        }
+
+        Builder ticker(Ticker ticker) {
+            this.ticker = checkNotNull(ticker, "ticker");
+            return this;
+        }
+
+        /**
+         * Builds a new, empty {@link BoundedGameProfileCache}.
+         *
+         * @return The profile cache
+         */
+        public BoundedGameProfileCache build() {
+            checkState(this.manager != null, "The profile manager must be set");
+            checkState(this.executor != null, "The executor must be set");
+            return new BoundedGameProfileCache(this);
+        }
+    }
+
+}
@@ -0,0 +1,334 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.profile;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+
+import com.google.common.collect.ImmutableList;
+import org.spongepowered.api.profile.property.ProfileProperty;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import javax.annotation.Nullable;
+
+/**
+ * A {@link GameProfileManager} which coalesces the lookups of single
+ * profiles into bulk lookups of another manager.
+ *
+ * <p>The profiles requested through {@link #get(UUID, boolean)} and
+ * {@link #get(String, boolean)} are collected for a short
+ * {@link Builder#window(Duration) window} after the first request, and are
+ * then looked up together through {@link GameProfileManager#getAllById} and
+ * {@link GameProfileManager#getAllByName}. Requests for a profile which is
+ * already being looked up share the same lookup.</p>
+ *
+ * <p>All the other methods are delegated as is.</p>
+ */
+public final class CoalescingGameProfileManager implements GameProfileManager {
+
+    /**
+     * Creates a new {@link Builder} to build a
+     * {@link CoalescingGameProfileManager}.
+     *
+     * @return The new builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    private final GameProfileManager delegate;
+    private final ScheduledExecutorService scheduler;
+    private final long windowNanos;
+    private final int maxBatchSize;
+    private final Coalescer<UUID> byId;
+    private final Coalescer<UUID> byIdUncached;
+    private final Coalescer<String> byName;
+    private final Coalescer<String> byNameUncached;
+
+    CoalescingGameProfileManager(Builder builder) {
+        this.delegate = builder.delegate;
+        this.scheduler = builder.scheduler;
+        this.windowNanos = builder.window.toNanos();
+        this.maxBatchSize = builder.maxBatchSize;
+        this.byId = new Coalescer<>(true, GameProfile::getUniqueId, this.delegate::getAllById);
+        this.byIdUncached = new Coalescer<>(false, GameProfile::getUniqueId, this.delegate::getAllById);
+        this.byName = new Coalescer<>(true, CoalescingGameProfileManager::nameKey, this.delegate::getAllByName);
+        this.byNameUncached = new Coalescer<>(false, CoalescingGameProfileManager::nameKey, this.delegate::getAllByName);
+    }
+
+    @Nullable
+    private static String nameKey(GameProfile profile) {
+        return profile.getName().map(name -> name.toLowerCase(Locale.ENGLISH)).orElse(null);
+    }
+
+    /**
+     * Gets the {@link GameProfileManager} to which the lookups are delegated.
+     *
+     * @return The delegate
+     */
+    public GameProfileManager getDelegate() {
+        return this.delegate;
+    }
+
+    @Override
+    public GameProfile createProfile(UUID uniqueId, @Nullable String name) {
+        return this.delegate.createProfile(uniqueId, name);
+    }
+
+    @Override
+    public ProfileProperty createProfileProperty(String name, String value, @Nullable String signature) {
+        return this.delegate.createProfileProperty(name, value, signature);
+    }
+
+    @Override
+    public CompletableFuture<GameProfile> get(UUID uniqueId, boolean useCache) {
+        checkNotNull(uniqueId, "uniqueId");
+        return (useCache ? this.byId : this.byIdUncached).get(uniqueId);
+    }
+
+    @Override
+    public CompletableFuture<GameProfile> get(String name, boolean useCache) {
+        checkNotNull(name, "name");
+        return (useCache ? this.byName : this.byNameUncached).get(name.toLowerCase(Locale.ENGLISH));
+    }
+
+    @Override
+    public CompletableFuture<Collection<GameProfile>> getAllById(Iterable<UUID> uniqueIds, boolean useCache) {
+        return this.delegate.getAllById(uniqueIds, useCache);
+    }
+
+    @Override
+    public CompletableFuture<Collection<GameProfile>> getAllByName(Iterable<String> names, boolean useCache) {
+        return this.delegate.getAllByName(names, useCache);
+    }
+
+    @Override
+    public CompletableFuture<GameProfile> fill(GameProfile profile, boolean signed, boolean useCache) {
+        return this.delegate.fill(profile, signed, useCache);
+    }
+
+    @Override
+    public GameProfileCache getCache() {
+        return this.delegate.getCache();
+    }
+
+    @Override
+    public void setCache(GameProfileCache cache) {
+        this.delegate.setCache(cache);
+    }
+
+    @Override
+    public GameProfileCache getDefaultCache() {
+        return this.delegate.getDefaultCache();
+    }
+
+    /**
+     * Collects the requests of one kind of key into batches.
+     *
+     * @param <K> The type of the keys
+     */
+    private final class Coalescer<K> {
+
+        private final boolean useCache;
+        private final Function<GameProfile, K> keyFunction;
+        private final BiFunction<Iterable<K>, Boolean, CompletableFuture<Collection<GameProfile>>> lookup;
+        private final ConcurrentMap<K, CompletableFuture<GameProfile>> inFlight = new ConcurrentHashMap<>();
+        @Nullable private Map<K, CompletableFuture<GameProfile>> batch;
+
+        Coalescer(boolean useCache, Function<GameProfile, K> keyFunction,
+                BiFunction<Iterable<K>, Boolean, CompletableFuture<Collection<GameProfile>>> lookup) {
+            this.useCache = useCache;
+            this.keyFunction = keyFunction;
+            this.lookup = lookup;
+        }
+
+        CompletableFuture<GameProfile> get(K key) {
+            // Every caller gets its own dependent future, so that completing
+            // or cancelling it doesn't affect the other callers
+            CompletableFuture<GameProfile> future = this.inFlight.get(key);
+            if (future != null) {
+                return future.thenApply(Function.identity());
+            }
+            Map<K, CompletableFuture<GameProfile>> full = null;
+            synchronized (this) {
+                future = this.inFlight.get(key);
+                if (future != null) {
+                    return future.thenApply(Function.identity());
+                }
+                if (this.batch == null) {
+                    // Schedule the flush before anything is mapped, so that a
+                    // rejected flush leaves no request behind
+                    final Map<K, CompletableFuture<GameProfile>> batch = new LinkedHashMap<>();
+                    CoalescingGameProfileManager.this.scheduler.schedule(() -> flush(batch),
+                            CoalescingGameProfileManager.this.windowNanos, TimeUnit.NANOSECONDS);
+                    this.batch = batch;
+                }
+                future = new CompletableFuture<>();
+                this.inFlight.put(key, future);
+                this.batch.put(key, future);
+                if (this.batch.size() >= CoalescingGameProfileManager.this.maxBatchSize) {
+                    full = this.batch;
+                    this.batch = null;
+                }
+            }
+            if (full != null) {
+                submit(full);
+            }
+            return future.thenApply(Function.identity());
+        }
+
+        private void flush(Map<K, CompletableFuture<GameProfile>> batch) {
+            synchronized (this) {
+                // The batch may already have been submitted once it was full
+                if (this.batch != batch) {
+                    return;
+                }
+                this.batch = null;
+            }
+            submit(batch);
+        }
+
+        private void submit(Map<K, CompletableFuture<GameProfile>> batch) {
+            CompletableFuture<Collection<GameProfile>> result;
+            try {
+                result = this.lookup.apply(ImmutableList.copyOf(batch.keySet()), this.useCache);
+            } catch (RuntimeException e) {
+                result = new CompletableFuture<>();
+                result.completeExceptionally(e);
+            }
+            result.whenComplete((profiles, error) -> {
+                if (error == null) {
+                    for (GameProfile profile : profiles) {
+                        final CompletableFuture<GameProfile> future = batch.get(this.keyFunction.apply(profile));
+                        if (future != null) {
+                            future.complete(profile);
+                        }
+                    }
+                }
+                final Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+                batch.forEach((key, future) -> {
+                    this.inFlight.remove(key, future);
+                    if (cause != null) {
+                        future.completeExceptionally(cause);
+                    } else {
+                        future.completeExceptionally(new ProfileNotFoundException("No profile was found for " + key));
+                    }
+                });
+            });
+        }
+    }
+
+    /**
+     * A builder for {@link CoalescingGameProfileManager}s.
+     */
+    public static final class Builder {
+
+        @Nullable GameProfileManager delegate;
+        @Nullable ScheduledExecutorService scheduler;
+        Duration window = Duration.ofMillis(50);
+        int maxBatchSize = 100;
+
+        Builder() {
+        }
+
+        /**
+         * Sets the {@link GameProfileManager} through which the profiles are
+         * looked up. This is required.
+         *
+         * @param delegate The profile manager
+         * @return This builder, for chaining
+         */
+        public Builder delegate(GameProfileManager delegate) {
+            this.delegate = checkNotNull(delegate, "delegate");
+            return this;
+        }
+
+        /**
+         * Sets the {@link ScheduledExecutorService} on which the batches are
+         * submitted once their window is over. This is required.
+         *
+         * @param scheduler The scheduler
+         * @return This builder, for chaining
+         */
+        public Builder scheduler(ScheduledExecutorService scheduler) {
+            this.scheduler = checkNotNull(scheduler, "scheduler");
+            return this;
+        }
+
+        /**
+         * Sets how long requests are collected into a batch after its first
+         * request. Defaults to 50 milliseconds.
+         *
+         * @param window The window
+         * @return This builder, for chaining
+         */
+        public Builder window(Duration window) {
+            checkNotNull(window, "window");
+            checkArgument(!window.isNegative(), "The window may not be negative");
+            this.window = window;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of profiles looked up in one batch. A batch
+         * is submitted as soon as it is full. Defaults to 100.
+         *
+         * @param maxBatchSize The maximum batch size
+         * @return This builder, for chaining
+         */
+        public Builder maxBatchSize(int maxBatchSize) {
+            checkArgument(maxBatchSize > 0, "The maximum batch size must be positive");
+            this.maxBatchSize = maxBatchSize;
+            return this;
+        }
+
+        /**
+         * Builds a new {@link CoalescingGameProfileManager}.
+         *
+         * @return The profile manager
+         */
+        public CoalescingGameProfileManager build() {
+            checkState(this.delegate != null, "The delegate must be set");
+            checkState(this.scheduler != null, "The scheduler must be set");
+            return new CoalescingGameProfileManager(this);
+        }
+    }
+
+}
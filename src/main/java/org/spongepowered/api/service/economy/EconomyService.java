@@ -24,14 +24,23 @@
  */
 package org.spongepowered.api.service.economy;
 
+import com.google.common.collect.ImmutableList;
+import org.spongepowered.api.scheduler.Scheduler;
 import org.spongepowered.api.service.context.ContextualService;
 import org.spongepowered.api.service.economy.account.Account;
 import org.spongepowered.api.service.economy.account.UniqueAccount;
 import org.spongepowered.api.service.economy.account.VirtualAccount;
+import org.spongepowered.api.service.economy.transaction.TransactionBatch;
+import org.spongepowered.api.service.economy.transaction.TransactionResult;
+import org.spongepowered.api.service.economy.transaction.TransferResult;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * Represents a service for managing a server economy.
@@ -115,4 +124,114 @@ public interface EconomyService extends ContextualService<Account> {
      * @return The {@link Account}, if available.
      */
     Optional<Account> getOrCreateAccount(String identifier);
+
+    /**
+     * Returns whether a {@link UniqueAccount} exists with the specified
+     * {@link UUID}, without blocking the calling thread.
+     *
+     * <p>Providers which keep accounts in remote storage should override
+     * this to query it asynchronously, in which case they may ignore the
+     * executor. The default implementation calls {@link #hasAccount(UUID)}
+     * on the given executor, as do the other asynchronous methods. It should
+     * therefore be suited to blocking calls, such as one created by
+     * {@link Scheduler#createAsyncExecutor(Object)}, rather than the
+     * {@link ForkJoinPool#commonPool() common pool}.</p>
+     *
+     * @param uuid The {@link UUID} of the account to check for
+     * @param executor The executor to run blocking calls on
+     * @return A future of whether the account exists
+     */
+    default CompletableFuture<Boolean> hasAccountAsync(UUID uuid, Executor executor) {
+        return CompletableFuture.supplyAsync(() -> this.hasAccount(uuid), executor);
+    }
+
+    /**
+     * Returns whether an {@link Account} with the specified identifier
+     * exists, without blocking the calling thread.
+     *
+     * @param identifier The identifier of the account to check for
+     * @param executor The executor to run blocking calls on
+     * @return A future of whether the account exists
+     * @see #hasAccountAsync(UUID, Executor)
+     */
+    default CompletableFuture<Boolean> hasAccountAsync(String identifier, Executor executor) {
+        return CompletableFuture.supplyAsync(() -> this.hasAccount(identifier), executor);
+    }
+
+    /**
+     * Gets or creates the {@link UniqueAccount} for the user with the
+     * specified {@link UUID}, without blocking the calling thread.
+     *
+     * @param uuid The {@link UUID} of the account to get.
+     * @param executor The executor to run blocking calls on
+     * @return A future of the {@link UniqueAccount}, if available
+     * @see #getOrCreateAccount(UUID)
+     * @see #hasAccountAsync(UUID, Executor)
+     */
+    default CompletableFuture<Optional<UniqueAccount>> getOrCreateAccountAsync(UUID uuid, Executor executor) {
+        return CompletableFuture.supplyAsync(() -> this.getOrCreateAccount(uuid), executor);
+    }
+
+    /**
+     * Gets or creates the {@link Account} with the specified identifier,
+     * without blocking the calling thread.
+     *
+     * @param identifier The identifier of the account to get.
+     * @param executor The executor to run blocking calls on
+     * @return A future of the {@link Account}, if available
+     * @see #getOrCreateAccount(String)
+     * @see #hasAccountAsync(UUID, Executor)
+     */
+    default CompletableFuture<Optional<Account>> getOrCreateAccountAsync(String identifier, Executor executor) {
+        return CompletableFuture.supplyAsync(() -> this.getOrCreateAccount(identifier), executor);
+    }
+
+    /**
+     * Gets whether this service can execute {@link TransactionBatch#isAtomic()
+     * atomic} transaction batches.
+     *
+     * @return Whether atomic batches are supported
+     */
+    default boolean supportsAtomicBatches() {
+        return false;
+    }
+
+    /**
+     * Executes all the operations of the given {@link TransactionBatch},
+     * in order.
+     *
+     * <p>The returned future completes with the result of each operation, in
+     * the same order as {@link TransactionBatch#getOperations()}, with
+     * {@link TransferResult}s for the transfers. Services backed by remote
+     * storage should override this to submit the operations together and
+     * complete the future once they are committed, instead of blocking.</p>
+     *
+     * <p>If the batch is atomic and not all operations succeed, none of them
+     * are applied. The default implementation applies the operations one by
+     * one on the calling thread and doesn't support atomic batches: for them
+     * the future always fails with an {@link UnsupportedOperationException}.
+     * Services which return {@code true} from
+     * {@link #supportsAtomicBatches()} must therefore override this method
+     * as well.</p>
+     *
+     * @param batch The batch to execute
+     * @return The results of the operations
+     */
+    default CompletableFuture<List<TransactionResult>> execute(TransactionBatch batch) {
+        final CompletableFuture<List<TransactionResult>> future = new CompletableFuture<>();
+        try {
+            if (batch.isAtomic()) {
+                throw new UnsupportedOperationException("This economy service doesn't support atomic transaction batches");
+            }
+            final ImmutableList.Builder<TransactionResult> results = ImmutableList.builder();
+            for (TransactionBatch.Operation operation : batch.getOperations()) {
+                results.add(operation.apply(batch.getCause()));
+            }
+            future.complete(results.build());
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
 }
@@ -28,6 +28,7 @@
 import org.spongepowered.api.entity.living.player.User;
 import org.spongepowered.api.event.cause.Cause;
 import org.spongepowered.api.profile.GameProfile;
+import org.spongepowered.api.scheduler.Scheduler;
 import org.spongepowered.api.service.context.Context;
 import org.spongepowered.api.service.context.Contextual;
 import org.spongepowered.api.service.economy.Currency;
@@ -40,6 +41,9 @@
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * Represents an account, which stores amounts of various {@link Currency currencies}.
@@ -185,6 +189,69 @@ default Map<Currency, BigDecimal> getBalances() {
         return this.getBalances(this.getActiveContexts());
     }
 
+    /**
+     * Gets the balance of this account for the {@link Currency} given and the
+     * set of {@link Context}s, without blocking the calling thread.
+     *
+     * <p>Providers which keep balances in remote storage should override
+     * this to query it asynchronously, in which case they may ignore the
+     * executor. The default implementation calls
+     * {@link #getBalance(Currency, Set)} on the given executor, which should
+     * therefore be suited to blocking calls, such as one created by
+     * {@link Scheduler#createAsyncExecutor(Object)}, rather than the
+     * {@link ForkJoinPool#commonPool() common pool}.</p>
+     *
+     * @param currency a {@link Currency} to check the balance of
+     * @param contexts a set of contexts to check the balance against
+     * @param executor The executor to run blocking calls on
+     * @return A future of the balance
+     * @see BalanceCache
+     */
+    default CompletableFuture<BigDecimal> getBalanceAsync(Currency currency, Set<Context> contexts, Executor executor) {
+        return CompletableFuture.supplyAsync(() -> this.getBalance(currency, contexts), executor);
+    }
+
+    /**
+     * Gets the balance of this account for the {@link Currency} given, with
+     * the current active contexts, without blocking the calling thread.
+     *
+     * @param currency a {@link Currency} to check the balance of
+     * @param executor The executor to run blocking calls on
+     * @return A future of the balance
+     * @see #getBalanceAsync(Currency, Set, Executor)
+     */
+    default CompletableFuture<BigDecimal> getBalanceAsync(Currency currency, Executor executor) {
+        return this.getBalanceAsync(currency, this.getActiveContexts(), executor);
+    }
+
+    /**
+     * Gets all currently set balances the account holds within the set of
+     * {@link Context}s, without blocking the calling thread.
+     *
+     * <p>The default implementation calls {@link #getBalances(Set)} on the
+     * given executor, see {@link #getBalanceAsync(Currency, Set, Executor)}.
+     * </p>
+     *
+     * @param contexts the set of {@link Context}s to use with the specified amounts.
+     * @param executor The executor to run blocking calls on
+     * @return A future of the balances
+     */
+    default CompletableFuture<Map<Currency, BigDecimal>> getBalancesAsync(Set<Context> contexts, Executor executor) {
+        return CompletableFuture.supplyAsync(() -> this.getBalances(contexts), executor);
+    }
+
+    /**
+     * Gets all currently set balances the account holds within the current
+     * active {@link Context}s, without blocking the calling thread.
+     *
+     * @param executor The executor to run blocking calls on
+     * @return A future of the balances
+     * @see #getBalancesAsync(Set, Executor)
+     */
+    default CompletableFuture<Map<Currency, BigDecimal>> getBalancesAsync(Executor executor) {
+        return this.getBalancesAsync(this.getActiveContexts(), executor);
+    }
+
     /**
      * Sets the balance for this account to the specified amount for
      * the specified {@link Currency}, with the specified set of {@link Context}s.
@@ -0,0 +1,336 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.service.economy.account;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+
+import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.google.common.collect.ImmutableSet;
+import org.spongepowered.api.service.context.Context;
+import org.spongepowered.api.service.economy.Currency;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.Nullable;
+
+/**
+ * A read-through cache of {@link Account} balances, loaded through
+ * {@link Account#getBalanceAsync(Currency, Set, Executor)}.
+ *
+ * <p>This allows balances to be displayed every tick, for example in
+ * scoreboards or chat prefixes, without querying the economy provider's
+ * storage on the main thread: {@link #getCachedBalance(Account, Currency)}
+ * never blocks, and starts loading the balance if it isn't cached yet.</p>
+ *
+ * <p>Cached balances are refreshed in the background once they are older
+ * than the configured {@link Builder#staleness(Duration) staleness}, while
+ * the old balance is still served. They aren't updated by transactions, so
+ * the balances of an account should be {@link #invalidate(Account)
+ * invalidated} when it is known to have changed. Balances are always
+ * refreshed through the {@link Account} instance most recently passed to
+ * this cache for them.</p>
+ */
+public final class BalanceCache {
+
+    /**
+     * Creates a new {@link Builder} to build a {@link BalanceCache}.
+     *
+     * @return The new builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    private final AsyncLoadingCache<Key, Balance> cache;
+
+    BalanceCache(Builder builder) {
+        final Caffeine<Object, Object> caffeine = Caffeine.newBuilder()
+                .executor(builder.executor)
+                .ticker(builder.ticker)
+                .maximumSize(builder.maximumSize)
+                .refreshAfterWrite(builder.staleness.toNanos(), TimeUnit.NANOSECONDS);
+        if (builder.expireAfterWrite != null) {
+            caffeine.expireAfterWrite(builder.expireAfterWrite.toNanos(), TimeUnit.NANOSECONDS);
+        }
+        this.cache = caffeine.buildAsync(new Loader());
+    }
+
+    private static CompletableFuture<Balance> load(Account account, Key key, Executor executor) {
+        return account.getBalanceAsync(key.currency, key.contexts, executor).thenApply(balance -> new Balance(account, balance));
+    }
+
+    /**
+     * Gets the balance of the given {@link Account} for the {@link Currency}
+     * and the set of {@link Context}s, loading it if it isn't cached.
+     *
+     * @param account The account
+     * @param currency The currency of the balance
+     * @param contexts The contexts of the balance
+     * @return A future of the balance
+     */
+    public CompletableFuture<BigDecimal> getBalance(Account account, Currency currency, Set<Context> contexts) {
+        return this.cache.get(new Key(account, currency, contexts)).thenApply(balance -> {
+            balance.account = account;
+            return balance.value;
+        });
+    }
+
+    /**
+     * Gets the balance of the given {@link Account} for the {@link Currency},
+     * with the active contexts of the account, loading it if it isn't cached.
+     *
+     * @param account The account
+     * @param currency The currency of the balance
+     * @return A future of the balance
+     */
+    public CompletableFuture<BigDecimal> getBalance(Account account, Currency currency) {
+        return getBalance(account, currency, account.getActiveContexts());
+    }
+
+    /**
+     * Gets the cached balance of the given {@link Account} for the
+     * {@link Currency} and the set of {@link Context}s, without blocking.
+     *
+     * <p>If the balance isn't cached yet, it starts being loaded and
+     * {@link Optional#empty()} is returned.</p>
+     *
+     * @param account The account
+     * @param currency The currency of the balance
+     * @param contexts The contexts of the balance
+     * @return The cached balance, if available
+     */
+    public Optional<BigDecimal> getCachedBalance(Account account, Currency currency, Set<Context> contexts) {
+        final CompletableFuture<BigDecimal> future = getBalance(account, currency, contexts);
+        if (future.isDone() && !future.isCompletedExceptionally()) {
+            return Optional.ofNullable(future.join());
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Gets the cached balance of the given {@link Account} for the
+     * {@link Currency}, with the active contexts of the account, without
+     * blocking.
+     *
+     * @param account The account
+     * @param currency The currency of the balance
+     * @return The cached balance, if available
+     * @see #getCachedBalance(Account, Currency, Set)
+     */
+    public Optional<BigDecimal> getCachedBalance(Account account, Currency currency) {
+        return getCachedBalance(account, currency, account.getActiveContexts());
+    }
+
+    /**
+     * Discards all the cached balances of the given {@link Account}.
+     *
+     * @param account The account
+     */
+    public void invalidate(Account account) {
+        final String identifier = account.getIdentifier();
+        this.cache.synchronous().asMap().keySet().removeIf(key -> key.identifier.equals(identifier));
+    }
+
+    /**
+     * Discards the cached balance of the given {@link Account} for the
+     * {@link Currency} and the set of {@link Context}s.
+     *
+     * @param account The account
+     * @param currency The currency of the balance
+     * @param contexts The contexts of the balance
+     */
+    public void invalidate(Account account, Currency currency, Set<Context> contexts) {
+        this.cache.synchronous().invalidate(new Key(account, currency, contexts));
+    }
+
+    /**
+     * Discards all the cached balances.
+     */
+    public void invalidateAll() {
+        this.cache.synchronous().invalidateAll();
+    }
+
+    private static final class Key {
+
+        // The account to load the balance through, which isn't part of the key
+        final Account account;
+        final String identifier;
+        final Currency currency;
+        final Set<Context> contexts;
+
+        Key(Account account, Currency currency, Set<Context> contexts) {
+            this.account = checkNotNull(account, "account");
+            this.identifier = account.getIdentifier();
+            this.currency = checkNotNull(currency, "currency");
+            this.contexts = ImmutableSet.copyOf(checkNotNull(contexts, "contexts"));
+        }
+
+        @Override
+        public boolean equals(@Nullable Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            final Key other = (Key) obj;
+            return this.identifier.equals(other.identifier)
+                    && this.currency.equals(other.currency)
+                    && this.contexts.equals(other.contexts);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(this.identifier, this.currency, this.contexts);
+        }
+    }
+
+    private static final class Balance {
+
+        // The account most recently passed for this balance, to refresh it
+        volatile Account account;
+        final BigDecimal value;
+
+        Balance(Account account, BigDecimal value) {
+            this.account = account;
+            this.value = value;
+        }
+    }
+
+    private static final class Loader implements AsyncCacheLoader<Key, Balance> {
+
+        @Override
+        public CompletableFuture<Balance> asyncLoad(Key key, Executor executor) {
+            return load(key.account, key, executor);
+        }
+
+        @Override
+        public CompletableFuture<Balance> asyncReload(Key key, Balance oldValue, Executor executor) {
+            return load(oldValue.account, key, executor);
+        }
+    }
+
+    /**
+     * A builder for {@link BalanceCache}s.
+     */
+    public static final class Builder {
+
+        private static final Duration DEFAULT_STALENESS = Duration.ofSeconds(30);
+        private static final long DEFAULT_MAXIMUM_SIZE = 10000;
+
+        Duration staleness = DEFAULT_STALENESS;
+        @Nullable Duration expireAfterWrite;
+        long maximumSize = DEFAULT_MAXIMUM_SIZE;
+        @Nullable Executor executor;
+        Ticker ticker = Ticker.systemTicker();
+
+        Builder() {
+        }
+
+        /**
+         * Sets how old a cached balance may get before it is refreshed in the
+         * background. Defaults to 30 seconds.
+         *
+         * @param staleness The staleness
+         * @return This builder, for chaining
+         */
+        public Builder staleness(Duration staleness) {
+            checkNotNull(staleness, "staleness");
+            checkArgument(!staleness.isNegative() && !staleness.isZero(), "The staleness must be positive");
+            this.staleness = staleness;
+            return this;
+        }
+
+        /**
+         * Sets how old a cached balance may get before it is discarded, so
+         * that it is never served anymore. By default, balances are only
+         * discarded when they are invalidated or the cache is full.
+         *
+         * @param duration The duration after which balances are discarded
+         * @return This builder, for chaining
+         */
+        public Builder expireAfterWrite(Duration duration) {
+            checkNotNull(duration, "duration");
+            checkArgument(!duration.isNegative() && !duration.isZero(), "The duration must be positive");
+            this.expireAfterWrite = duration;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of balances kept in the cache. Defaults to
+         * 10000.
+         *
+         * @param maximumSize The maximum size
+         * @return This builder, for chaining
+         */
+        public Builder maximumSize(long maximumSize) {
+            checkArgument(maximumSize >= 0, "The maximum size may not be negative");
+            this.maximumSize = maximumSize;
+            return this;
+        }
+
+        /**
+         * Sets the {@link Executor} used to maintain the cache and to load
+         * balances on, see
+         * {@link Account#getBalanceAsync(Currency, Set, Executor)}. It should
+         * be suited to blocking calls. This is required.
+         *
+         * @param executor The executor
+         * @return This builder, for chaining
+         */
+        public Builder executor(Executor executor) {
+            this.executor = checkNotNull(executor, "executor");
+            return this;
+        }
+
+        Builder ticker(Ticker ticker) {
+            this.ticker = checkNotNull(ticker, "ticker");
+            return this;
+        }
+
+        /**
+         * Builds a new, empty {@link BalanceCache}.
+         *
+         * @return The balance cache
+         */
+        public BalanceCache build() {
+            checkState(this.executor != null, "The executor must be set");
+            return new BalanceCache(this);
+        }
+    }
+
+}
@@ -0,0 +1,400 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.service.economy.transaction;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import org.spongepowered.api.event.cause.Cause;
+import org.spongepowered.api.service.context.Context;
+import org.spongepowered.api.service.economy.Currency;
+import org.spongepowered.api.service.economy.EconomyService;
+import org.spongepowered.api.service.economy.account.Account;
+import org.spongepowered.api.util.ResettableBuilder;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+
+/**
+ * Represents many deposits, withdrawals and transfers which are submitted to
+ * an {@link EconomyService} together with
+ * {@link EconomyService#execute(TransactionBatch)}, allowing the service to
+ * group them into as few round trips to its storage as possible.
+ *
+ * <p>If the batch is {@link #isAtomic() atomic}, either all of its
+ * operations succeed or none of them are applied.</p>
+ */
+public final class TransactionBatch {
+
+    /**
+     * Creates a new {@link Builder} to build a {@link TransactionBatch}.
+     *
+     * @return The new builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    private final ImmutableList<Operation> operations;
+    private final Cause cause;
+    private final boolean atomic;
+
+    TransactionBatch(Builder builder) {
+        this.operations = ImmutableList.copyOf(builder.operations);
+        this.cause = builder.cause;
+        this.atomic = builder.atomic;
+    }
+
+    /**
+     * Gets the operations of this batch, in the order in which they are
+     * applied.
+     *
+     * @return The operations
+     */
+    public List<Operation> getOperations() {
+        return this.operations;
+    }
+
+    /**
+     * Gets the {@link Cause} of all the operations of this batch.
+     *
+     * @return The cause
+     */
+    public Cause getCause() {
+        return this.cause;
+    }
+
+    /**
+     * Gets whether the operations of this batch must either all succeed or
+     * all not be applied.
+     *
+     * @return Whether this batch is atomic
+     */
+    public boolean isAtomic() {
+        return this.atomic;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                .add("operations", this.operations)
+                .add("cause", this.cause)
+                .add("atomic", this.atomic)
+                .toString();
+    }
+
+    private enum Kind {
+        DEPOSIT,
+        WITHDRAW,
+        TRANSFER
+    }
+
+    /**
+     * A single deposit, withdrawal or transfer within a
+     * {@link TransactionBatch}.
+     */
+    public static final class Operation {
+
+        private final Kind kind;
+        private final Account account;
+        @Nullable private final Account to;
+        private final Currency currency;
+        private final BigDecimal amount;
+        private final Set<Context> contexts;
+
+        Operation(Kind kind, Account account, @Nullable Account to, Currency currency, BigDecimal amount, Set<Context> contexts) {
+            this.kind = kind;
+            this.account = checkNotNull(account, "account");
+            this.to = to;
+            this.currency = checkNotNull(currency, "currency");
+            this.amount = checkNotNull(amount, "amount");
+            this.contexts = ImmutableSet.copyOf(checkNotNull(contexts, "contexts"));
+        }
+
+        /**
+         * Gets the type of this operation, which is one of
+         * {@link TransactionTypes#DEPOSIT}, {@link TransactionTypes#WITHDRAW}
+         * or {@link TransactionTypes#TRANSFER}.
+         *
+         * @return The type
+         */
+        public TransactionType getType() {
+            switch (this.kind) {
+                case DEPOSIT:
+                    return TransactionTypes.DEPOSIT;
+                case WITHDRAW:
+                    return TransactionTypes.WITHDRAW;
+                default:
+                    return TransactionTypes.TRANSFER;
+            }
+        }
+
+        /**
+         * Gets the {@link Account} which is deposited into, withdrawn from or
+         * transferred from.
+         *
+         * @return The account
+         */
+        public Account getAccount() {
+            return this.account;
+        }
+
+        /**
+         * Gets the {@link Account} which is transferred to, if this is a
+         * transfer.
+         *
+         * @return The account transferred to
+         */
+        public Optional<Account> getAccountTo() {
+            return Optional.ofNullable(this.to);
+        }
+
+        /**
+         * Gets the {@link Currency} of the amount.
+         *
+         * @return The currency
+         */
+        public Currency getCurrency() {
+            return this.currency;
+        }
+
+        /**
+         * Gets the amount deposited, withdrawn or transferred.
+         *
+         * @return The amount
+         */
+        public BigDecimal getAmount() {
+            return this.amount;
+        }
+
+        /**
+         * Gets the {@link Context}s in which this operation is applied.
+         *
+         * @return The contexts
+         */
+        public Set<Context> getContexts() {
+            return this.contexts;
+        }
+
+        /**
+         * Applies this operation on its own through the methods of
+         * {@link Account}. The result is a {@link TransferResult} if this is
+         * a transfer.
+         *
+         * @param cause The cause of the operation
+         * @return The result of the operation
+         */
+        public TransactionResult apply(Cause cause) {
+            checkNotNull(cause, "cause");
+            switch (this.kind) {
+                case DEPOSIT:
+                    return this.account.deposit(this.currency, this.amount, cause, this.contexts);
+                case WITHDRAW:
+                    return this.account.withdraw(this.currency, this.amount, cause, this.contexts);
+                default:
+                    return this.account.transfer(this.to, this.currency, this.amount, cause, this.contexts);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return MoreObjects.toStringHelper(this)
+                    .omitNullValues()
+                    .add("type", this.kind)
+                    .add("account", this.account.getIdentifier())
+                    .add("to", this.to == null ? null : this.to.getIdentifier())
+                    .add("currency", this.currency.getId())
+                    .add("amount", this.amount)
+                    .add("contexts", this.contexts)
+                    .toString();
+        }
+    }
+
+    /**
+     * A builder for {@link TransactionBatch}es.
+     */
+    public static final class Builder implements ResettableBuilder<TransactionBatch, Builder> {
+
+        final List<Operation> operations = new ArrayList<>();
+        @Nullable Cause cause;
+        boolean atomic;
+
+        Builder() {
+        }
+
+        /**
+         * Adds a deposit into the given {@link Account}.
+         *
+         * @param account The account to deposit into
+         * @param currency The currency of the amount
+         * @param amount The amount to deposit
+         * @param contexts The contexts to deposit in
+         * @return This builder, for chaining
+         * @see Account#deposit(Currency, BigDecimal, Cause, Set)
+         */
+        public Builder deposit(Account account, Currency currency, BigDecimal amount, Set<Context> contexts) {
+            this.operations.add(new Operation(Kind.DEPOSIT, account, null, currency, amount, contexts));
+            return this;
+        }
+
+        /**
+         * Adds a deposit into the given {@link Account}, in its
+         * {@link Account#getActiveContexts() active contexts}.
+         *
+         * @param account The account to deposit into
+         * @param currency The currency of the amount
+         * @param amount The amount to deposit
+         * @return This builder, for chaining
+         * @see Account#deposit(Currency, BigDecimal, Cause)
+         */
+        public Builder deposit(Account account, Currency currency, BigDecimal amount) {
+            checkNotNull(account, "account");
+            return deposit(account, currency, amount, account.getActiveContexts());
+        }
+
+        /**
+         * Adds a withdrawal from the given {@link Account}.
+         *
+         * @param account The account to withdraw from
+         * @param currency The currency of the amount
+         * @param amount The amount to withdraw
+         * @param contexts The contexts to withdraw in
+         * @return This builder, for chaining
+         * @see Account#withdraw(Currency, BigDecimal, Cause, Set)
+         */
+        public Builder withdraw(Account account, Currency currency, BigDecimal amount, Set<Context> contexts) {
+            this.operations.add(new Operation(Kind.WITHDRAW, account, null, currency, amount, contexts));
+            return this;
+        }
+
+        /**
+         * Adds a withdrawal from the given {@link Account}, in its
+         * {@link Account#getActiveContexts() active contexts}.
+         *
+         * @param account The account to withdraw from
+         * @param currency The currency of the amount
+         * @param amount The amount to withdraw
+         * @return This builder, for chaining
+         * @see Account#withdraw(Currency, BigDecimal, Cause)
+         */
+        public Builder withdraw(Account account, Currency currency, BigDecimal amount) {
+            checkNotNull(account, "account");
+            return withdraw(account, currency, amount, account.getActiveContexts());
+        }
+
+        /**
+         * Adds a transfer between the given {@link Account}s.
+         *
+         * @param from The account to transfer from
+         * @param to The account to transfer to
+         * @param currency The currency of the amount
+         * @param amount The amount to transfer
+         * @param contexts The contexts to transfer in
+         * @return This builder, for chaining
+         * @see Account#transfer(Account, Currency, BigDecimal, Cause, Set)
+         */
+        public Builder transfer(Account from, Account to, Currency currency, BigDecimal amount, Set<Context> contexts) {
+            checkNotNull(to, "to");
+            this.operations.add(new Operation(Kind.TRANSFER, from, to, currency, amount, contexts));
+            return this;
+        }
+
+        /**
+         * Adds a transfer between the given {@link Account}s, in the
+         * {@link Account#getActiveContexts() active contexts} of the account
+         * transferred from.
+         *
+         * @param from The account to transfer from
+         * @param to The account to transfer to
+         * @param currency The currency of the amount
+         * @param amount The amount to transfer
+         * @return This builder, for chaining
+         * @see Account#transfer(Account, Currency, BigDecimal, Cause)
+         */
+        public Builder transfer(Account from, Account to, Currency currency, BigDecimal amount) {
+            checkNotNull(from, "from");
+            return transfer(from, to, currency, amount, from.getActiveContexts());
+        }
+
+        /**
+         * Sets whether the operations must either all succeed or all not be
+         * applied. Defaults to {@code false}.
+         *
+         * @param atomic Whether the batch is atomic
+         * @return This builder, for chaining
+         */
+        public Builder atomic(boolean atomic) {
+            this.atomic = atomic;
+            return this;
+        }
+
+        /**
+         * Sets the {@link Cause} of all the operations.
+         *
+         * @param cause The cause
+         * @return This builder, for chaining
+         */
+        public Builder cause(Cause cause) {
+            this.cause = checkNotNull(cause, "cause");
+            return this;
+        }
+
+        /**
+         * Builds a {@link TransactionBatch} of the added operations.
+         *
+         * @return The transaction batch
+         */
+        public TransactionBatch build() {
+            checkState(this.cause != null, "The cause must be set");
+            return new TransactionBatch(this);
+        }
+
+        @Override
+        public Builder from(TransactionBatch value) {
+            reset();
+            this.operations.addAll(value.operations);
+            this.cause = value.cause;
+            this.atomic = value.atomic;
+            return this;
+        }
+
+        @Override
+        public Builder reset() {
+            this.operations.clear();
+            this.cause = null;
+            this.atomic = false;
+            return this;
+        }
+    }
+
+}
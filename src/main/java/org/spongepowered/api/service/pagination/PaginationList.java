@@ -32,6 +32,7 @@
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.IntFunction;
 
 import javax.annotation.Nullable;
 
@@ -39,6 +40,18 @@
  * Represents an immutable iterable of {@link Text}s, which can be sent to a {@link MessageReceiver}.
  *
  * <p>An instance of this class may be obtained using {@link Builder}.</p>
+ *
+ * <p>Pages are rendered when they are sent. If the contents are supplied by
+ * index, through {@link Builder#contents(int, IntFunction)} or
+ * {@link Builder#pages(int, IntFunction)}, only the lines of the page being
+ * sent are created and measured, so contents of any size can be paginated.
+ * To allow this, such contents are split into pages of a fixed number of
+ * entries, as if every entry took a single line: an entry which wraps onto
+ * several lines is kept whole, so its page is longer than the
+ * {@link Builder#linesPerPage(int) lines per page}. Contents set through
+ * {@link Builder#contents(Iterable)} or {@link Builder#contents(Text...)}
+ * are measured entry by entry, so their pages never are. Implementations
+ * cache the measured height of each distinct {@link Text}.</p>
  */
 public interface PaginationList {
 
@@ -54,6 +67,11 @@ static Builder builder() {
     /**
      * Gets the contents of this pagination list.
      *
+     * <p>If the contents are supplied by index, through
+     * {@link Builder#contents(int, IntFunction)} or
+     * {@link Builder#pages(int, IntFunction)}, the returned iterable creates
+     * the lines as it is iterated.</p>
+     *
      * @return The contents of this pagination list
      */
     Iterable<Text> getContents();
@@ -106,6 +124,17 @@ static Builder builder() {
      */
     void sendTo(MessageReceiver source);
 
+    /**
+     * Send the given page of the constructed pagination list to the given
+     * source. Only the lines of that page are rendered if the contents are
+     * supplied by index, in which case the page holds a fixed range of
+     * entries, see {@link PaginationList}.
+     *
+     * @param source The source to send to
+     * @param page The page to send, starting at 1
+     */
+    void sendTo(MessageReceiver source, int page);
+
     /**
      * Send the constructed pagination list to the specified
      * {@link MessageChannel}.
@@ -126,7 +155,10 @@ interface Builder extends ResettableBuilder<PaginationList, Builder> {
         /**
          * Sets the contents of this output as an Iterable.
          * If this {@link Iterable} is a {@link List}, bidirectional navigation is supported.
-         * Otherwise, only going to the next page will be supported
+         * Otherwise, only going to the next page will be supported. The
+         * entries are measured one by one, whatever the type of the
+         * {@link Iterable}; use {@link #contents(int, IntFunction)} to only
+         * access the lines of the sent page.
          *
          * @param contents The contents to output
          * @return this
@@ -141,6 +173,42 @@ interface Builder extends ResettableBuilder<PaginationList, Builder> {
          */
         Builder contents(Text... contents);
 
+        /**
+         * Sets the contents of this output to be the given number of lines,
+         * which are created by the given function from their index when
+         * the page containing them is sent. Bidirectional navigation is
+         * supported.
+         *
+         * <p>Each page holds a fixed range of lines, as many as fit in the
+         * {@link #linesPerPage(int) lines per page} if none of them wrap.
+         * The lines of earlier pages are never created, so a line which
+         * wraps makes its page longer instead of moving lines to the next
+         * page.</p>
+         *
+         * <p>Use this for very large contents which shouldn't be created all
+         * at once, such as the results of a database query.</p>
+         *
+         * @param size The number of lines
+         * @param lines The function creating the line at an index, starting
+         *     at 0
+         * @return this
+         */
+        Builder contents(int size, IntFunction<Text> lines);
+
+        /**
+         * Sets the contents of this output to be the given number of pages,
+         * which are created by the given function from their number when
+         * they are sent. Each page is sent as supplied, regardless of the
+         * {@link #linesPerPage(int) lines per page}. Bidirectional
+         * navigation is supported.
+         *
+         * @param pageCount The number of pages
+         * @param pages The function creating the lines of a page from its
+         *     number, starting at 1
+         * @return this
+         */
+        Builder pages(int pageCount, IntFunction<? extends Iterable<Text>> pages);
+
         /**
          * Sets the title text to be used in the title bar of this pagination.
          * This should be less than one line long.
@@ -29,7 +29,11 @@
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
 import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import com.google.common.primitives.Longs;
 
 import org.spongepowered.api.service.context.Context;
 import org.spongepowered.api.util.Tristate;
@@ -41,6 +45,8 @@
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
 
 import javax.annotation.Nullable;
 
@@ -51,7 +57,20 @@
  */
 public class MemorySubjectData implements SubjectData {
 
+    /**
+     * The maximum number of permissions cached for each context set.
+     */
+    private static final int MAX_CACHED_PERMISSIONS = 4096;
+
+    private static final Interner<Set<Context>> CONTEXT_SETS = Interners.newWeakInterner();
+
     private final PermissionService service;
+    /**
+     * Incremented whenever the permissions or parents of this data are
+     * changed, which invalidates the values resolved from it.
+     */
+    private final AtomicLong generation = new AtomicLong();
+    private final ConcurrentMap<Set<Context>, Resolution> resolutions = Maps.newConcurrentMap();
     private final ConcurrentMap<Set<Context>, Map<String, String>> options = Maps.newConcurrentMap();
     private final ConcurrentMap<Set<Context>, NodeTree> permissions = Maps.newConcurrentMap();
     private final ConcurrentMap<Set<Context>, List<Map.Entry<String, String>>> parents = Maps.newConcurrentMap();
@@ -67,6 +86,102 @@ public MemorySubjectData(PermissionService service) {
         this.service = service;
     }
 
+    /**
+     * Gets the interned, immutable instance of the given set of contexts.
+     * Interned sets have their hash code computed and compare equal to each
+     * other by identity.
+     *
+     * @param contexts The contexts
+     * @return The interned set
+     */
+    private static Set<Context> intern(Set<Context> contexts) {
+        return CONTEXT_SETS.intern(ImmutableSet.copyOf(contexts));
+    }
+
+    private void invalidateResolvedValues() {
+        this.generation.incrementAndGet();
+    }
+
+    private boolean invalidateIf(boolean changed) {
+        if (changed) {
+            invalidateResolvedValues();
+        }
+        return changed;
+    }
+
+    /**
+     * Resolves the value of the given permission from this data and the data
+     * of its parents. This data is checked first, followed by the parents in
+     * the order they were added, depth first. The first value that is not
+     * {@link Tristate#UNDEFINED} is returned.
+     *
+     * <p>The parent chain of each context set is flattened once, and the
+     * resolved values are cached until the permissions or parents of this
+     * data or of any {@link MemorySubjectData} in the chain are changed.
+     * Parents that do not use a {@link MemorySubjectData} are queried through
+     * {@link Subject#getPermissionValue(Set, String)} on every call, and the
+     * values of chains containing them are not cached.</p>
+     *
+     * @param contexts The contexts to resolve the permission in
+     * @param permission The permission to resolve
+     * @return The resolved value
+     */
+    public Tristate resolvePermissionValue(Set<Context> contexts, String permission) {
+        checkNotNull(contexts, "contexts");
+        checkNotNull(permission, "permission");
+        Resolution resolution = this.resolutions.get(contexts);
+        if (resolution == null || !resolution.isValid()) {
+            contexts = intern(contexts);
+            resolution = flatten(contexts);
+            this.resolutions.put(contexts, resolution);
+        }
+        if (resolution.values == null) {
+            return resolution.resolve(permission);
+        }
+        Tristate value = resolution.values.get(permission);
+        if (value == null) {
+            value = resolution.resolve(permission);
+            if (resolution.values.size() < MAX_CACHED_PERMISSIONS) {
+                resolution.values.put(permission, value);
+            }
+        }
+        return value;
+    }
+
+    private Resolution flatten(Set<Context> contexts) {
+        final List<MemorySubjectData> sources = new ArrayList<>();
+        final List<Long> generations = new ArrayList<>();
+        final List<Function<String, Tristate>> chain = new ArrayList<>();
+        final boolean cacheable = flatten(contexts, this, sources, generations, chain, Sets.newIdentityHashSet());
+        return new Resolution(sources.toArray(new MemorySubjectData[sources.size()]), Longs.toArray(generations),
+                ImmutableList.copyOf(chain), cacheable);
+    }
+
+    private static boolean flatten(Set<Context> contexts, MemorySubjectData data, List<MemorySubjectData> sources, List<Long> generations,
+            List<Function<String, Tristate>> chain, Set<Object> visited) {
+        if (!visited.add(data)) {
+            return true;
+        }
+        // Read the generation before the data, so concurrent changes are never missed
+        sources.add(data);
+        generations.add(data.generation.get());
+        final NodeTree tree = data.permissions.get(contexts);
+        if (tree != null) {
+            chain.add(tree::get);
+        }
+        boolean cacheable = true;
+        for (Subject parent : data.getParents(contexts)) {
+            final SubjectData parentData = parent.getSubjectData();
+            if (parentData instanceof MemorySubjectData) {
+                cacheable &= flatten(contexts, (MemorySubjectData) parentData, sources, generations, chain, visited);
+            } else if (visited.add(parent)) {
+                chain.add(permission -> parent.getPermissionValue(contexts, permission));
+                cacheable = false;
+            }
+        }
+        return cacheable;
+    }
+
     @Override
     public Map<Set<Context>, Map<String, Boolean>> getAllPermissions() {
         ImmutableMap.Builder<Set<Context>, Map<String, Boolean>> ret = ImmutableMap.builder();
@@ -97,7 +212,7 @@ public Map<String, Boolean> getPermissions(Set<Context> contexts) {
 
     @Override
     public boolean setPermission(Set<Context> contexts, String permission, Tristate value) {
-        contexts = ImmutableSet.copyOf(contexts);
+        contexts = intern(contexts);
         while (true) {
             NodeTree oldTree = this.permissions.get(contexts);
             if (oldTree != null && oldTree.get(permission) == value) {
@@ -114,6 +229,7 @@ public boolean setPermission(Set<Context> contexts, String permission, Tristate
                 }
             }
         }
+        invalidateResolvedValues();
         return true;
 
     }
@@ -122,12 +238,13 @@ public boolean setPermission(Set<Context> contexts, String permission, Tristate
     public boolean clearPermissions() {
         boolean wasEmpty = this.permissions.isEmpty();
         this.permissions.clear();
+        invalidateResolvedValues();
         return !wasEmpty;
     }
 
     @Override
     public boolean clearPermissions(Set<Context> context) {
-        return this.permissions.remove(context) != null;
+        return invalidateIf(this.permissions.remove(context) != null);
     }
 
     @Override
@@ -156,7 +273,7 @@ public List<Subject> getParents(Set<Context> contexts) {
 
     @Override
     public boolean addParent(Set<Context> contexts, Subject parent) {
-        contexts = ImmutableSet.copyOf(contexts);
+        contexts = intern(contexts);
         while (true) {
             Map.Entry<String, String> newEnt = Maps.immutableEntry(parent.getContainingCollection().getIdentifier(),
                     parent.getIdentifier());
@@ -170,6 +287,7 @@ public boolean addParent(Set<Context> contexts, Subject parent) {
             }
 
             if (updateCollection(this.parents, contexts, oldParents, newParents)) {
+                invalidateResolvedValues();
                 return true;
             }
         }
@@ -190,7 +308,7 @@ private <K, V> boolean updateCollection(ConcurrentMap<K, V> collection, K key, @
 
     @Override
     public boolean removeParent(Set<Context> contexts, Subject parent) {
-        contexts = ImmutableSet.copyOf(contexts);
+        contexts = intern(contexts);
         while (true) {
             Map.Entry<String, String> removeEnt = Maps.immutableEntry(parent.getContainingCollection().getIdentifier(),
                     parent.getIdentifier());
@@ -204,6 +322,7 @@ public boolean removeParent(Set<Context> contexts, Subject parent) {
             newParents.remove(removeEnt);
 
             if (updateCollection(this.parents, contexts, oldParents, Collections.unmodifiableList(newParents))) {
+                invalidateResolvedValues();
                 return true;
             }
         }
@@ -214,12 +333,13 @@ public boolean removeParent(Set<Context> contexts, Subject parent) {
     public boolean clearParents() {
         boolean wasEmpty = this.parents.isEmpty();
         this.parents.clear();
+        invalidateResolvedValues();
         return !wasEmpty;
     }
 
     @Override
     public boolean clearParents(Set<Context> contexts) {
-        return this.parents.remove(contexts) != null;
+        return invalidateIf(this.parents.remove(contexts) != null);
     }
 
     @Override
@@ -243,7 +363,7 @@ public boolean setOption(Set<Context> contexts, String key, @Nullable String val
                 return false;
             }
 
-            if ((origMap = this.options.putIfAbsent(ImmutableSet.copyOf(contexts), ImmutableMap.of(key.toLowerCase(), value))) == null) {
+            if ((origMap = this.options.putIfAbsent(intern(contexts), ImmutableMap.of(key.toLowerCase(), value))) == null) {
                 return true;
             }
         }
@@ -276,4 +396,43 @@ public boolean clearOptions() {
         this.options.clear();
         return true;
     }
+
+    /**
+     * The flattened permission sources of a set of contexts and the values
+     * resolved from them, valid for as long as none of the subject data they
+     * were flattened from changes.
+     */
+    private static final class Resolution {
+
+        final MemorySubjectData[] sources;
+        final long[] generations;
+        final List<Function<String, Tristate>> chain;
+        @Nullable final ConcurrentMap<String, Tristate> values;
+
+        Resolution(MemorySubjectData[] sources, long[] generations, List<Function<String, Tristate>> chain, boolean cacheable) {
+            this.sources = sources;
+            this.generations = generations;
+            this.chain = chain;
+            this.values = cacheable ? Maps.newConcurrentMap() : null;
+        }
+
+        boolean isValid() {
+            for (int i = 0; i < this.sources.length; i++) {
+                if (this.sources[i].generation.get() != this.generations[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        Tristate resolve(String permission) {
+            for (Function<String, Tristate> source : this.chain) {
+                final Tristate value = source.apply(permission);
+                if (value != Tristate.UNDEFINED) {
+                    return value;
+                }
+            }
+            return Tristate.UNDEFINED;
+        }
+    }
 }
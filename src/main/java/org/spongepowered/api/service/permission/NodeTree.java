@@ -27,9 +27,12 @@
 import com.google.common.collect.ImmutableMap;
 import org.spongepowered.api.util.Tristate;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.regex.Pattern;
+
+import javax.annotation.Nullable;
 
 /**
  * An immutable tree structure for determining node data. Any changes will
@@ -39,18 +42,16 @@
  *     <li>Keys are case-insensitive.</li>
  *     <li>Segments of nodes are split by the '.' character</li>
  * </ul>
+ *
+ * <p>The children of each node are kept in a pre-hashed table of their lower
+ * case names, so looking up a node does not need to allocate a lower case copy
+ * of it or split it into its segments. Trees share all nodes that are not on
+ * the path of a change with the tree they were created from.</p>
  */
 public class NodeTree {
 
-    private static final Pattern SPLIT_REGEX = Pattern.compile("\\.");
     private final Node rootNode;
 
-
-    private NodeTree(Tristate value) {
-        this.rootNode = new Node(new HashMap<>());
-        this.rootNode.value = value;
-    }
-
     private NodeTree(Node rootNode) {
         this.rootNode = rootNode;
     }
@@ -75,22 +76,58 @@ public static NodeTree of(Map<String, Boolean> values) {
      * @return The newly created node tree
      */
     public static NodeTree of(Map<String, Boolean> values, Tristate defaultValue) {
-        NodeTree newTree = new NodeTree(defaultValue);
+        NodeBuilder root = new NodeBuilder();
+        root.value = defaultValue;
         for (Map.Entry<String, Boolean> value : values.entrySet()) {
-            String[] parts = SPLIT_REGEX.split(value.getKey().toLowerCase());
-            Node currentNode = newTree.rootNode;
-            for (String part : parts) {
-                if (currentNode.children.containsKey(part)) {
-                    currentNode = currentNode.children.get(part);
-                } else {
-                    Node newNode = new Node(new HashMap<>());
-                    currentNode.children.put(part, newNode);
-                    currentNode = newNode;
-                }
+            NodeBuilder currentNode = root;
+            for (String part : split(value.getKey())) {
+                currentNode = currentNode.children.computeIfAbsent(part, k -> new NodeBuilder());
             }
             currentNode.value = Tristate.fromBoolean(value.getValue());
         }
-        return newTree;
+        return new NodeTree(root.build());
+    }
+
+    /**
+     * Splits the given node into its lower case segments, with the same
+     * results as splitting by a regular expression would have.
+     *
+     * @param node The node to split
+     * @return The segments
+     */
+    private static String[] split(String node) {
+        final int end = trimmedLength(node);
+        final List<String> parts = new ArrayList<>();
+        for (int start = 0; start < end || (start == 0 && end == node.length()); ) {
+            final int dot = segmentEnd(node, start, end);
+            final StringBuilder part = new StringBuilder(dot - start);
+            for (int i = start; i < dot; i++) {
+                part.append(Character.toLowerCase(node.charAt(i)));
+            }
+            parts.add(part.toString());
+            start = dot + 1;
+        }
+        return parts.toArray(new String[parts.size()]);
+    }
+
+    /**
+     * Gets the length of the given node without any trailing separators,
+     * which are ignored like trailing empty strings are by a split.
+     *
+     * @param node The node
+     * @return The length without trailing separators
+     */
+    private static int trimmedLength(String node) {
+        int end = node.length();
+        while (end > 0 && node.charAt(end - 1) == '.') {
+            end--;
+        }
+        return end;
+    }
+
+    private static int segmentEnd(String node, int start, int end) {
+        final int dot = node.indexOf('.', start);
+        return dot == -1 || dot > end ? end : dot;
     }
 
     /**
@@ -101,20 +138,21 @@ public static NodeTree of(Map<String, Boolean> values, Tristate defaultValue) {
      * @return The tristate value for the given node
      */
     public Tristate get(String node) {
-        String[] parts = SPLIT_REGEX.split(node.toLowerCase());
+        final int end = trimmedLength(node);
         Node currentNode = this.rootNode;
         Tristate lastUndefinedVal = Tristate.UNDEFINED;
-        for (String str : parts) {
-            if (!currentNode.children.containsKey(str)) {
+        for (int start = 0; start < end || (start == 0 && end == node.length()); ) {
+            final int dot = segmentEnd(node, start, end);
+            currentNode = currentNode.get(node, start, dot);
+            if (currentNode == null) {
                 break;
             }
-            currentNode = currentNode.children.get(str);
             if (currentNode.value != Tristate.UNDEFINED) {
                 lastUndefinedVal = currentNode.value;
             }
+            start = dot + 1;
         }
         return lastUndefinedVal;
-
     }
 
     /**
@@ -124,8 +162,11 @@ public Tristate get(String node) {
      */
     public Map<String, Boolean> asMap() {
         ImmutableMap.Builder<String, Boolean> ret = ImmutableMap.builder();
-        for (Map.Entry<String, Node> ent : this.rootNode.children.entrySet()) {
-            populateMap(ret, ent.getKey(), ent.getValue());
+        final Node root = this.rootNode;
+        for (int i = 0; i < root.keys.length; i++) {
+            if (root.keys[i] != null) {
+                populateMap(ret, root.keys[i], root.children[i]);
+            }
         }
         return ret.build();
     }
@@ -134,8 +175,10 @@ private void populateMap(ImmutableMap.Builder<String, Boolean> values, String pr
         if (currentNode.value != Tristate.UNDEFINED) {
             values.put(prefix, currentNode.value.asBoolean());
         }
-        for (Map.Entry<String, Node> ent : currentNode.children.entrySet()) {
-            populateMap(values, prefix + '.' + ent.getKey(), ent.getValue());
+        for (int i = 0; i < currentNode.keys.length; i++) {
+            if (currentNode.keys[i] != null) {
+                populateMap(values, prefix + '.' + currentNode.keys[i], currentNode.children[i]);
+            }
         }
     }
 
@@ -147,21 +190,21 @@ private void populateMap(ImmutableMap.Builder<String, Boolean> values, String pr
      * @return The new, modified node tree
      */
     public NodeTree withValue(String node, Tristate value) {
-        String[] parts = SPLIT_REGEX.split(node.toLowerCase());
-        Node newRoot = new Node(new HashMap<>(this.rootNode.children));
-        Node newPtr = newRoot;
-        Node currentPtr = this.rootNode;
-
-        newPtr.value = currentPtr == null ? Tristate.UNDEFINED : currentPtr.value;
-        for (String part : parts) {
-            Node oldChild = currentPtr == null ? null : currentPtr.children.get(part);
-            Node newChild = new Node(oldChild != null ? new HashMap<>(oldChild.children) : new HashMap<>());
-            newPtr.children.put(part, newChild);
-            currentPtr = oldChild;
-            newPtr = newChild;
-        }
-        newPtr.value = value;
-        return new NodeTree(newRoot);
+        return new NodeTree(withValue(this.rootNode, split(node), 0, value));
+    }
+
+    private static Node withValue(@Nullable Node node, String[] parts, int index, Tristate value) {
+        if (node == null) {
+            node = Node.EMPTY;
+        }
+        if (index == parts.length) {
+            return node.withValue(value);
+        }
+        final String part = parts[index];
+        final Node child = withValue(node.get(part, 0, part.length()), parts, index + 1, value);
+        // Only the root keeps its value, the nodes between the root and the
+        // changed node are recreated without one
+        return node.withChild(index == 0 ? node.value : Tristate.UNDEFINED, part, child);
     }
 
     /**
@@ -178,13 +221,140 @@ public NodeTree withAll(Map<String, Tristate> values) {
         return ret;
     }
 
-    private static class Node {
+    /**
+     * A mutable node, used to build the immutable nodes of a new tree.
+     */
+    private static final class NodeBuilder {
 
-        final Map<String, Node> children;
+        final Map<String, NodeBuilder> children = new HashMap<>();
         Tristate value = Tristate.UNDEFINED;
 
-        Node(Map<String, Node> children) {
+        Node build() {
+            final Map<String, Node> built = new HashMap<>();
+            for (Map.Entry<String, NodeBuilder> entry : this.children.entrySet()) {
+                built.put(entry.getKey(), entry.getValue().build());
+            }
+            return new Node(this.value, built);
+        }
+    }
+
+    /**
+     * An immutable node. The children are kept in an open addressing table
+     * of their lower case names.
+     */
+    private static final class Node {
+
+        static final Node EMPTY = new Node(Tristate.UNDEFINED, new String[0], new int[0], new Node[0], 0);
+
+        final Tristate value;
+        final String[] keys;
+        final int[] hashes;
+        final Node[] children;
+        final int size;
+
+        Node(Tristate value, String[] keys, int[] hashes, Node[] children, int size) {
+            this.value = value;
+            this.keys = keys;
+            this.hashes = hashes;
             this.children = children;
+            this.size = size;
+        }
+
+        Node(Tristate value, Map<String, Node> children) {
+            this.value = value;
+            final int capacity = capacityFor(children.size());
+            this.keys = new String[capacity];
+            this.hashes = new int[capacity];
+            this.children = new Node[capacity];
+            this.size = children.size();
+            for (Map.Entry<String, Node> entry : children.entrySet()) {
+                insert(this.keys, this.hashes, this.children, entry.getKey(), entry.getValue());
+            }
+        }
+
+        private static int capacityFor(int size) {
+            return size == 0 ? 0 : Integer.highestOneBit(size * 2 - 1) << 1;
+        }
+
+        private static int spread(int hash) {
+            return hash ^ (hash >>> 16);
+        }
+
+        private static int insert(String[] keys, int[] hashes, Node[] children, String key, Node child) {
+            final int hash = key.hashCode();
+            final int mask = keys.length - 1;
+            int i = spread(hash) & mask;
+            while (keys[i] != null && !(hashes[i] == hash && keys[i].equals(key))) {
+                i = (i + 1) & mask;
+            }
+            final int added = keys[i] == null ? 1 : 0;
+            keys[i] = key;
+            hashes[i] = hash;
+            children[i] = child;
+            return added;
+        }
+
+        /**
+         * Gets the child with the name that is case-insensitively equal to the
+         * given region of the given node.
+         *
+         * @param node The node containing the name
+         * @param start The start of the name, inclusive
+         * @param end The end of the name, exclusive
+         * @return The child, if present
+         */
+        @Nullable
+        Node get(String node, int start, int end) {
+            if (this.size == 0) {
+                return null;
+            }
+            int hash = 0;
+            for (int i = start; i < end; i++) {
+                hash = 31 * hash + Character.toLowerCase(node.charAt(i));
+            }
+            final int mask = this.keys.length - 1;
+            for (int i = spread(hash) & mask; this.keys[i] != null; i = (i + 1) & mask) {
+                if (this.hashes[i] == hash && matches(this.keys[i], node, start, end)) {
+                    return this.children[i];
+                }
+            }
+            return null;
+        }
+
+        private static boolean matches(String key, String node, int start, int end) {
+            if (key.length() != end - start) {
+                return false;
+            }
+            for (int i = 0; i < key.length(); i++) {
+                if (key.charAt(i) != Character.toLowerCase(node.charAt(start + i))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        Node withValue(Tristate value) {
+            return new Node(value, this.keys, this.hashes, this.children, this.size);
+        }
+
+        Node withChild(Tristate value, String key, Node child) {
+            if (capacityFor(this.size + 1) > this.keys.length) {
+                final String[] keys = new String[capacityFor(this.size + 1)];
+                final int[] hashes = new int[keys.length];
+                final Node[] children = new Node[keys.length];
+                for (int i = 0; i < this.keys.length; i++) {
+                    if (this.keys[i] != null) {
+                        insert(keys, hashes, children, this.keys[i], this.children[i]);
+                    }
+                }
+                final int added = insert(keys, hashes, children, key, child);
+                return new Node(value, keys, hashes, children, this.size + added);
+            }
+            final String[] keys = this.keys.clone();
+            final int[] hashes = this.hashes.clone();
+            final Node[] children = this.children.clone();
+            final int added = insert(keys, hashes, children, key, child);
+            return new Node(value, keys, hashes, children, this.size + added);
         }
     }
 }
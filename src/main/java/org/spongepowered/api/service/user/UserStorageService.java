@@ -24,14 +24,22 @@
  */
 package org.spongepowered.api.service.user;
 
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
 import org.spongepowered.api.entity.living.player.Player;
 import org.spongepowered.api.entity.living.player.User;
 import org.spongepowered.api.profile.GameProfile;
 import org.spongepowered.api.profile.GameProfileManager;
 
 import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Stores the persistent {@link User} data of a {@link Player}.
@@ -66,6 +74,28 @@ public interface UserStorageService {
      */
     Optional<User> get(GameProfile profile);
 
+    /**
+     * Gets the data of the {@link User}s with the given unique ids.
+     *
+     * <p>Users which aren't found are absent from the returned map. Providers
+     * backed by a database should override this to look all the users up in
+     * a single query; the default implementation calls {@link #get(UUID)}
+     * for each unique id.</p>
+     *
+     * @param uniqueIds The UUIDs of the users
+     * @return The users which were found, by unique id
+     */
+    default Map<UUID, User> get(Iterable<UUID> uniqueIds) {
+        checkNotNull(uniqueIds, "uniqueIds");
+        final Map<UUID, User> users = new LinkedHashMap<>();
+        for (UUID uniqueId : uniqueIds) {
+            if (!users.containsKey(uniqueId)) {
+                get(uniqueId).ifPresent(user -> users.put(uniqueId, user));
+            }
+        }
+        return ImmutableMap.copyOf(users);
+    }
+
     /**
      * Gets or creates a persistent {@link User} associated with the given
      * {@link GameProfile}.
@@ -92,6 +122,39 @@ public interface UserStorageService {
      */
     Collection<GameProfile> getAll();
 
+    /**
+     * Gets a page of the {@link GameProfile}s with stored {@link User} data.
+     *
+     * <p>The profiles are in a stable, provider-defined order, so that
+     * consecutive pages don't overlap as long as no users are added or
+     * deleted. Providers should answer from their index instead of loading
+     * every profile; the default implementation pages through
+     * {@link #getAll()}.</p>
+     *
+     * @param offset The number of profiles to skip
+     * @param limit The maximum number of profiles to return
+     * @return A {@link Collection} of at most {@code limit} {@link GameProfile}s
+     */
+    default Collection<GameProfile> getAll(int offset, int limit) {
+        checkArgument(offset >= 0, "The offset may not be negative");
+        checkArgument(limit >= 0, "The limit may not be negative");
+        return streamAll().skip(offset).limit(limit).collect(ImmutableList.toImmutableList());
+    }
+
+    /**
+     * Gets a {@link Stream} of all {@link GameProfile}s with stored
+     * {@link User} data.
+     *
+     * <p>Unlike {@link #getAll()}, providers may load the profiles lazily as
+     * the stream is consumed. The default implementation streams
+     * {@link #getAll()}.</p>
+     *
+     * @return A {@link Stream} of {@link GameProfile}s
+     */
+    default Stream<GameProfile> streamAll() {
+        return getAll().stream();
+    }
+
     /**
      * Deletes the data associated with a {@link User}.
      *
@@ -124,4 +187,23 @@ public interface UserStorageService {
      * @return The result of the request
      */
     Collection<GameProfile> match(String lastKnownName);
+
+    /**
+     * Returns a collection of at most {@code limit} matching
+     * {@link GameProfile}s with stored {@link User} data whose last known
+     * user names start with the given string (case-insensitive).
+     *
+     * <p>This is intended for tab completion of offline user names. Providers
+     * should answer from a sorted or prefix index of the last known names
+     * and stop once the limit is reached; the default implementation
+     * truncates the result of {@link #match(String)}.</p>
+     *
+     * @param lastKnownName The start of the user name
+     * @param limit The maximum number of profiles to return
+     * @return The result of the request
+     */
+    default Collection<GameProfile> match(String lastKnownName, int limit) {
+        checkArgument(limit >= 0, "The limit may not be negative");
+        return match(lastKnownName).stream().limit(limit).collect(ImmutableList.toImmutableList());
+    }
 }
@@ -102,8 +102,8 @@ public boolean equals(@Nullable Object o) {
     }
 
     @Override
-    public int hashCode() {
-        return Objects.hashCode(super.hashCode(), this.content);
+    int computeHashCode() {
+        return Objects.hashCode(super.computeHashCode(), this.content);
     }
 
     @Override
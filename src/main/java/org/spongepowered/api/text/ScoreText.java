@@ -120,8 +120,14 @@ public boolean equals(@Nullable Object o) {
     }
 
     @Override
-    public int hashCode() {
-        return Objects.hashCode(super.hashCode(), this.score, this.override);
+    boolean computeImmutable() {
+        // the score can be changed at any time
+        return false;
+    }
+
+    @Override
+    int computeHashCode() {
+        return Objects.hashCode(super.computeHashCode(), this.score, this.override);
     }
 
     @Override
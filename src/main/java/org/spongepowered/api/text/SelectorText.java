@@ -104,8 +104,8 @@ public boolean equals(@Nullable Object o) {
     }
 
     @Override
-    public int hashCode() {
-        return Objects.hashCode(super.hashCode(), this.selector);
+    int computeHashCode() {
+        return Objects.hashCode(super.computeHashCode(), this.selector);
     }
 
     @Override
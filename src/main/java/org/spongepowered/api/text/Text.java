@@ -43,6 +43,7 @@
 import org.spongepowered.api.text.format.TextStyle;
 import org.spongepowered.api.text.format.TextStyles;
 import org.spongepowered.api.text.selector.Selector;
+import org.spongepowered.api.text.serializer.TextSerializer;
 import org.spongepowered.api.text.serializer.TextSerializers;
 import org.spongepowered.api.text.translation.Translatable;
 import org.spongepowered.api.text.translation.Translation;
@@ -112,6 +113,21 @@ public abstract class Text implements TextRepresentable, DataSerializable, Compa
      */
     final Iterable<Text> childrenIterable;
 
+    /**
+     * Serialized forms longer than this are not cached, so that very large
+     * texts don't hold on to even larger strings.
+     */
+    private static final int MAX_CACHED_LENGTH = 8192;
+
+    // The serializers whose results are cached, see cacheIndex(TextSerializer)
+    private static final int CACHED_SERIALIZERS = 3;
+
+    // lazy load, see serializeWith(TextSerializer)
+    @Nullable private String[] serialized;
+    private int hashCode;
+    // 0 if not yet known, see isImmutable()
+    private byte immutable;
+
     Text() {
         this.format = TextFormat.NONE; // TODO
         this.children = ImmutableList.of();
@@ -249,7 +265,7 @@ public final boolean isEmpty() {
      * @return This text converted to plain text
      */
     public final String toPlain() {
-        return TextSerializers.PLAIN.serialize(this);
+        return serializeWith(TextSerializers.PLAIN);
     }
 
     /**
@@ -262,6 +278,79 @@ public final String toPlainSingle() {
         return TextSerializers.PLAIN.serializeSingle(this);
     }
 
+    /**
+     * Serializes this {@link Text} with the given {@link TextSerializer}.
+     *
+     * <p>The results of the {@link TextSerializers#PLAIN plain},
+     * {@link TextSerializers#JSON JSON} and
+     * {@link TextSerializers#LEGACY_FORMATTING_CODE legacy} serializers are
+     * only computed once and then kept with this text, unless they are too
+     * large or the text contains a {@link ScoreText} or a
+     * {@link TranslatableText} with arguments which are not texts, whose
+     * output can change over time. Other serializers are called every
+     * time.</p>
+     *
+     * @param serializer The serializer to use
+     * @return This text serialized with the serializer
+     */
+    public final String serializeWith(TextSerializer serializer) {
+        checkNotNull(serializer, "serializer");
+        final int index = cacheIndex(serializer);
+        if (index < 0 || !isImmutable()) {
+            return serializer.serialize(this);
+        }
+        String[] serialized = this.serialized;
+        String result = serialized == null ? null : serialized[index];
+        if (result == null) {
+            result = serializer.serialize(this);
+            if (result.length() <= MAX_CACHED_LENGTH) {
+                if (serialized == null) {
+                    this.serialized = serialized = new String[CACHED_SERIALIZERS];
+                }
+                serialized[index] = result;
+            }
+        }
+        return result;
+    }
+
+    @SuppressWarnings("deprecation")
+    private static int cacheIndex(TextSerializer serializer) {
+        if (serializer == TextSerializers.PLAIN) {
+            return 0;
+        } else if (serializer == TextSerializers.JSON) {
+            return 1;
+        } else if (serializer == TextSerializers.LEGACY_FORMATTING_CODE) {
+            return 2;
+        }
+        return -1;
+    }
+
+    /**
+     * Gets whether this text and all of its children always produce the same
+     * output, so that their serialized forms and hash code can be cached.
+     *
+     * @return Whether this text is immutable
+     */
+    final boolean isImmutable() {
+        byte immutable = this.immutable;
+        if (immutable == 0) {
+            this.immutable = immutable = computeImmutable() ? (byte) 1 : (byte) -1;
+        }
+        return immutable > 0;
+    }
+
+    boolean computeImmutable() {
+        for (Text child : this.children) {
+            if (!child.isImmutable()) {
+                return false;
+            }
+        }
+        if (this.hoverAction.isPresent() && this.hoverAction.get() instanceof HoverAction.ShowText) {
+            return ((HoverAction.ShowText) this.hoverAction.get()).getResult().isImmutable();
+        }
+        return true;
+    }
+
     /**
      * Concatenates the specified {@link Text} to this Text and returns the
      * result.
@@ -292,7 +381,7 @@ public int getContentVersion() {
     public DataContainer toContainer() {
         return DataContainer.createNew()
                 .set(Queries.CONTENT_VERSION, getContentVersion())
-                .set(Queries.JSON, TextSerializers.JSON.serialize(this));
+                .set(Queries.JSON, serializeWith(TextSerializers.JSON));
     }
 
     @Override
@@ -318,7 +407,19 @@ public boolean equals(@Nullable Object o) {
     }
 
     @Override
-    public int hashCode() {
+    public final int hashCode() {
+        if (!isImmutable()) {
+            return computeHashCode();
+        }
+        // the hash code of immutable texts only needs to be computed once
+        int hashCode = this.hashCode;
+        if (hashCode == 0) {
+            this.hashCode = hashCode = computeHashCode();
+        }
+        return hashCode;
+    }
+
+    int computeHashCode() {
         return Objects.hashCode(this.format, this.children, this.clickAction, this.hoverAction, this.shiftClickAction);
     }
 
@@ -38,9 +38,11 @@
 import org.spongepowered.api.text.format.TextStyle;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -51,6 +53,10 @@
  * Represents a re-usable template that produces a formatted
  * {@link Text.Builder}. Elements will be appended to the result builder in the
  * order that they are specified in {@link #of(Object...)}.
+ *
+ * <p>The elements are compiled once into a plan of literal runs, text
+ * elements and argument slots, so applying the template doesn't need to
+ * inspect each element again.</p>
  */
 public final class TextTemplate implements TextRepresentable, Iterable<Object> {
 
@@ -78,13 +84,30 @@ public final class TextTemplate implements TextRepresentable, Iterable<Object> {
     final String openArg;
     final String closeArg;
 
+    // The compiled application plan, each step is one of the kinds below
+    private static final byte LITERAL_STEP = 0;
+    private static final byte ELEMENT_STEP = 1;
+    private static final byte ARG_STEP = 2;
+
+    private final byte[] stepKinds;
+    // LiteralRun, TextElement or Arg depending on the kind
+    private final Object[] steps;
+    // The slot of the parameter of each argument step
+    private final int[] stepSlots;
+    // The format of each argument step
+    private final TextFormat[] stepFormats;
+    // The default value of each argument step, already wrapped in its format
+    private final Text[] stepDefaults;
+    // The argument of each parameter slot
+    private final Arg[] slots;
+
     TextTemplate(String openArg, String closeArg, Object[] elements) {
         this.openArg = openArg;
         this.closeArg = closeArg;
 
         // collect elements
         ImmutableList.Builder<Object> elementList = ImmutableList.builder();
-        Map<String, Arg> argumentMap = new HashMap<>();
+        Map<String, Arg> argumentMap = new LinkedHashMap<>();
         for (Object element : elements) {
             if (element instanceof Arg.Builder) {
                 element = ((Arg.Builder) element).build();
@@ -108,9 +131,51 @@ public final class TextTemplate implements TextRepresentable, Iterable<Object> {
         // build text representation
         Text.Builder builder = null;
         for (Object element : this.elements) {
-            builder = apply(element, builder);
+            builder = applyElement(element, builder);
         }
         this.text = Optional.ofNullable(builder).orElse(Text.builder()).build();
+
+        // compile the application plan
+        this.slots = this.arguments.values().toArray(new Arg[this.arguments.size()]);
+        final Map<String, Integer> slotIndices = new HashMap<>();
+        for (int i = 0; i < this.slots.length; i++) {
+            slotIndices.put(this.slots[i].name, i);
+        }
+        final List<Object> steps = new ArrayList<>();
+        final List<Integer> stepSlots = new ArrayList<>();
+        final List<Text> literals = new ArrayList<>();
+        for (Object element : this.elements) {
+            if (element instanceof Arg || (element instanceof TextElement && !(element instanceof Text))) {
+                if (!literals.isEmpty()) {
+                    steps.add(new LiteralRun(literals));
+                    stepSlots.add(-1);
+                    literals.clear();
+                }
+                steps.add(element);
+                stepSlots.add(element instanceof Arg ? slotIndices.get(((Arg) element).name) : -1);
+            } else {
+                literals.add(element instanceof Text ? (Text) element : Text.of(element.toString()));
+            }
+        }
+        if (!literals.isEmpty()) {
+            steps.add(new LiteralRun(literals));
+            stepSlots.add(-1);
+        }
+        this.steps = steps.toArray();
+        this.stepKinds = new byte[this.steps.length];
+        this.stepSlots = new int[this.steps.length];
+        this.stepFormats = new TextFormat[this.steps.length];
+        this.stepDefaults = new Text[this.steps.length];
+        for (int i = 0; i < this.steps.length; i++) {
+            final Object step = this.steps[i];
+            this.stepKinds[i] = step instanceof LiteralRun ? LITERAL_STEP : step instanceof Arg ? ARG_STEP : ELEMENT_STEP;
+            this.stepSlots[i] = stepSlots.get(i);
+            if (step instanceof Arg) {
+                final Arg arg = (Arg) step;
+                this.stepFormats[i] = arg.format;
+                this.stepDefaults[i] = arg.defaultValue == null ? null : wrap(arg.defaultValue, arg.format);
+            }
+        }
     }
 
     /**
@@ -123,7 +188,9 @@ public List<Object> getElements() {
     }
 
     /**
-     * Returns the arguments contained within the TextTemplate.
+     * Returns the arguments contained within the TextTemplate, in the order
+     * in which they first appear in the template. This is also the order of
+     * the parameters of {@link #applyInOrder(Object...)}.
      *
      * @return The arguments within this TextTemplate
      */
@@ -184,38 +251,76 @@ public Text.Builder apply() {
      * @throws TextTemplateArgumentException if required parameters are missing
      */
     public Text.Builder apply(Map<String, ?> params) {
-        return apply(null, params);
+        checkNotNull(params, "params");
+        final Object[] slotParams = new Object[this.slots.length];
+        for (int i = 0; i < this.slots.length; i++) {
+            slotParams[i] = params.get(this.slots[i].name);
+        }
+        return applyPlan(slotParams);
     }
 
-    private Text.Builder apply(@Nullable Text.Builder result, Map<String, ?> params) {
+    /**
+     * Applies the specified parameters to this TextTemplate and returns the
+     * result in a {@link Text.Builder}. The parameters are given in the order
+     * of {@link #getArguments()}, a missing or {@code null} parameter is
+     * handled in the same way as an argument missing from the map given to
+     * {@link #apply(Map)}.
+     *
+     * @param params Parameters to apply
+     * @return Text builder containing result
+     * @throws TextTemplateArgumentException if required parameters are missing
+     *     or too many parameters are given
+     */
+    public Text.Builder applyInOrder(Object... params) {
         checkNotNull(params, "params");
-        for (Object element : this.elements) {
-            result = apply(element, result, params);
+        if (params.length > this.slots.length) {
+            throw new TextTemplateArgumentException("Tried to apply " + params.length + " parameters to a TextTemplate with "
+                    + this.slots.length + " arguments.");
         }
-        return Optional.ofNullable(result).orElse(Text.builder());
+        return applyPlan(params.length == this.slots.length ? params : Arrays.copyOf(params, this.slots.length));
     }
 
-    @Nullable
-    private Text.Builder apply(Object element, @Nullable Text.Builder builder, Map<String, ?> params) {
+    private Text.Builder applyPlan(Object[] params) {
         // Note: The builder is initialized as null to avoid unnecessary Text nesting
-        if (element instanceof Arg) {
-            Arg arg = (Arg) element;
-            Object param = params.get(arg.name);
-            if (param == null) {
-                arg.checkOptional();
-                if (arg.defaultValue != null) {
-                    builder = applyArg(arg.defaultValue, arg, builder);
-                }
-            } else {
-                builder = applyArg(param, arg, builder);
+        Text.Builder builder = null;
+        for (int i = 0; i < this.steps.length; i++) {
+            switch (this.stepKinds[i]) {
+                case LITERAL_STEP:
+                    final LiteralRun run = (LiteralRun) this.steps[i];
+                    if (builder == null) {
+                        builder = run.first.toBuilder().append(run.rest);
+                    } else {
+                        builder.append(run.all);
+                    }
+                    break;
+                case ELEMENT_STEP:
+                    if (builder == null) {
+                        builder = Text.builder();
+                    }
+                    ((TextElement) this.steps[i]).applyTo(builder);
+                    break;
+                default:
+                    final Object param = params[this.stepSlots[i]];
+                    final Text wrapped;
+                    if (param == null) {
+                        ((Arg) this.steps[i]).checkOptional();
+                        wrapped = this.stepDefaults[i];
+                    } else {
+                        wrapped = wrap(param, this.stepFormats[i]);
+                    }
+                    if (wrapped != null) {
+                        if (builder == null) {
+                            builder = Text.builder();
+                        }
+                        builder.append(wrapped);
+                    }
+                    break;
             }
-        } else {
-            builder = apply(element, builder);
         }
-        return builder;
+        return builder == null ? Text.builder() : builder;
     }
 
-    private Text.Builder apply(Object element, @Nullable Text.Builder builder) {
+    private static Text.Builder applyElement(Object element, @Nullable Text.Builder builder) {
         if (element instanceof Text) {
             Text text = (Text) element;
             if (builder == null) {
@@ -239,15 +344,23 @@ private Text.Builder apply(Object element, @Nullable Text.Builder builder) {
         return builder;
     }
 
-    private Text.Builder applyArg(Object param, Arg arg, @Nullable Text.Builder builder) {
-        if (builder == null) {
-            builder = Text.builder();
+    /**
+     * Wraps the given parameter in the given argument format, creating the
+     * same text as applying it to a builder with that format but without
+     * going through a builder where possible.
+     */
+    private static Text wrap(Object param, TextFormat format) {
+        final Text text;
+        if (param instanceof Text) {
+            text = (Text) param;
+        } else if (param instanceof TextElement) {
+            final Text.Builder wrapper = Text.builder().format(format);
+            ((TextElement) param).applyTo(wrapper);
+            return wrapper.build();
+        } else {
+            text = Text.of(param.toString());
         }
-        // wrap the parameter in the argument format
-        Text.Builder wrapper = Text.builder().format(arg.format);
-        apply(param, wrapper);
-        builder.append(wrapper.build());
-        return builder;
+        return new LiteralText(format, ImmutableList.of(text), null, null, null, "");
     }
 
     /**
@@ -369,6 +482,22 @@ public boolean equals(Object obj) {
                 && that.closeArg.equals(this.closeArg);
     }
 
+    /**
+     * A run of consecutive literal elements, converted to {@link Text}s.
+     */
+    private static final class LiteralRun {
+
+        final Text first;
+        final ImmutableList<Text> all;
+        final ImmutableList<Text> rest;
+
+        LiteralRun(List<Text> literals) {
+            this.all = ImmutableList.copyOf(literals);
+            this.first = this.all.get(0);
+            this.rest = this.all.subList(1, this.all.size());
+        }
+    }
+
     /**
      * Represents a variable element within a TextTemplate. Arguments are
      * replaced by parameters in {@link #apply(Map)}.
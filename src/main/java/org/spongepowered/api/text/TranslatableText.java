@@ -118,8 +118,18 @@ public boolean equals(@Nullable Object o) {
     }
 
     @Override
-    public int hashCode() {
-        return Objects.hashCode(super.hashCode(), this.translation, this.arguments);
+    boolean computeImmutable() {
+        for (Object argument : this.arguments) {
+            if (!(argument instanceof Text) || !((Text) argument).isImmutable()) {
+                return false;
+            }
+        }
+        return super.computeImmutable();
+    }
+
+    @Override
+    int computeHashCode() {
+        return Objects.hashCode(super.computeHashCode(), this.translation, this.arguments);
     }
 
     @Override
@@ -0,0 +1,91 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.text.channel;
+
+import org.spongepowered.api.text.Text;
+import org.spongepowered.api.text.chat.ChatType;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import javax.annotation.Nullable;
+
+/**
+ * Sends messages to all the members of a {@link MessageChannel}.
+ */
+final class ChannelBroadcaster {
+
+    /**
+     * Whether a type of channel overrides
+     * {@link MessageChannel#transformMessage(Object, MessageReceiver, Text, ChatType)}.
+     */
+    private static final ClassValue<Boolean> TRANSFORMING = new ClassValue<Boolean>() {
+
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            try {
+                return type.getMethod("transformMessage", Object.class, MessageReceiver.class, Text.class, ChatType.class)
+                        .getDeclaringClass() != MessageChannel.class;
+            } catch (NoSuchMethodException e) {
+                return true;
+            }
+        }
+    };
+
+    static void send(MessageChannel channel, @Nullable Object sender, Text original, ChatType type) {
+        if (!TRANSFORMING.get(channel.getClass())) {
+            // Every member gets the same text, so it is only serialized once
+            for (MessageReceiver member : channel.getMembers()) {
+                send(member, original, type);
+            }
+            return;
+        }
+        // Equal transformed texts are replaced by the first one of them,
+        // so that each distinct text is only serialized once
+        final Map<Text, Text> distinct = new HashMap<>();
+        distinct.put(original, original);
+        for (MessageReceiver member : channel.getMembers()) {
+            final Optional<Text> transformed = channel.transformMessage(sender, member, original, type);
+            if (transformed.isPresent()) {
+                final Text text = transformed.get();
+                final Text previous = distinct.putIfAbsent(text, text);
+                send(member, previous == null ? text : previous, type);
+            }
+        }
+    }
+
+    private static void send(MessageReceiver member, Text text, ChatType type) {
+        if (member instanceof ChatTypeMessageReceiver) {
+            ((ChatTypeMessageReceiver) member).sendMessage(type, text);
+        } else {
+            member.sendMessage(text);
+        }
+    }
+
+    private ChannelBroadcaster() {
+    }
+
+}
@@ -27,7 +27,6 @@
 import static com.google.common.base.Preconditions.checkNotNull;
 
 import com.google.common.collect.ImmutableSet;
-import org.spongepowered.api.Sponge;
 import org.spongepowered.api.text.Text;
 import org.spongepowered.api.text.channel.impl.DelegateMutableMessageChannel;
 import org.spongepowered.api.text.channel.type.CombinedMessageChannel;
@@ -58,21 +57,18 @@ public interface MessageChannel {
     /**
      * A channel with all online players as members.
      */
-    MessageChannel TO_PLAYERS = () -> ImmutableSet.copyOf(Sponge.getGame().getServer().getOnlinePlayers());
+    MessageChannel TO_PLAYERS = new ServerMessageChannel(true, false);
 
     /**
      * A channel with the server console as a member.
      */
-    MessageChannel TO_CONSOLE = () -> ImmutableSet.of(Sponge.getGame().getServer().getConsole());
+    MessageChannel TO_CONSOLE = new ServerMessageChannel(false, true);
 
     /**
      * A channel with all online players, as well as the server console, as
      * members.
      */
-    MessageChannel TO_ALL = () -> ImmutableSet.<MessageReceiver>builder()
-            .addAll(Sponge.getGame().getServer().getOnlinePlayers())
-            .add(Sponge.getGame().getServer().getConsole())
-            .build();
+    MessageChannel TO_ALL = new ServerMessageChannel(true, true);
 
     /**
      * Creates a message channel that targets all subjects with the given
@@ -184,6 +180,13 @@ default void send(@Nullable Object sender, Text original) {
      * Send a message to this channel, transforming and sending it to the
      * members.
      *
+     * <p>If this channel doesn't override
+     * {@link #transformMessage(Object, MessageReceiver, Text, ChatType)}, the
+     * original message is sent to every member as-is without calling it.
+     * Otherwise, members whose transformed messages are equal are sent the
+     * same {@link Text} instance, so that its serialized form can be reused
+     * for all of them.</p>
+     *
      * @param sender The sender of the message
      * @param original The original message to send
      * @param type The type of message
@@ -191,13 +194,7 @@ default void send(@Nullable Object sender, Text original) {
     default void send(@Nullable Object sender, Text original, ChatType type) {
         checkNotNull(original, "original text");
         checkNotNull(type, "type");
-        for (MessageReceiver member : this.getMembers()) {
-            if (member instanceof ChatTypeMessageReceiver) {
-                this.transformMessage(sender, member, original, type).ifPresent(text -> ((ChatTypeMessageReceiver) member).sendMessage(type, text));
-            } else {
-                this.transformMessage(sender, member, original, type).ifPresent(member::sendMessage);
-            }
-        }
+        ChannelBroadcaster.send(this, sender, original, type);
     }
 
     /**
@@ -0,0 +1,93 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.text.channel;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import org.spongepowered.api.Server;
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.entity.living.player.Player;
+
+import java.util.Collection;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+
+/**
+ * A channel with the online players and/or the console of the server as
+ * members.
+ *
+ * <p>The members are an immutable snapshot, which is cached and only
+ * rebuilt once the online players have changed. Checking whether it is
+ * still current doesn't copy anything. Sending a message requests the
+ * members only once, so every message is sent to the members at the time
+ * it is sent, no matter who joins or leaves meanwhile.</p>
+ */
+final class ServerMessageChannel implements MessageChannel {
+
+    private final boolean players;
+    private final boolean console;
+    @Nullable private volatile ImmutableSet<MessageReceiver> members;
+
+    ServerMessageChannel(boolean players, boolean console) {
+        this.players = players;
+        this.console = console;
+    }
+
+    @Override
+    public Collection<MessageReceiver> getMembers() {
+        final Server server = Sponge.getServer();
+        final Collection<? extends Player> online = this.players ? server.getOnlinePlayers() : ImmutableList.of();
+        final ImmutableSet<MessageReceiver> cached = this.members;
+        if (cached != null && isCurrent(cached, server, online)) {
+            return cached;
+        }
+        final ImmutableSet.Builder<MessageReceiver> builder = ImmutableSet.builder();
+        builder.addAll(online);
+        if (this.console) {
+            builder.add(server.getConsole());
+        }
+        final ImmutableSet<MessageReceiver> members = builder.build();
+        this.members = members;
+        return members;
+    }
+
+    private boolean isCurrent(Set<MessageReceiver> members, Server server, Collection<? extends Player> online) {
+        if (members.size() != online.size() + (this.console ? 1 : 0)) {
+            return false;
+        }
+        if (this.console && !members.contains(server.getConsole())) {
+            return false;
+        }
+        // The sizes are equal, so containing every online player means the same members
+        for (Player player : online) {
+            if (!members.contains(player)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+}
@@ -0,0 +1,233 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.util;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.collect.ImmutableList;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.BiConsumer;
+
+import javax.annotation.Nullable;
+
+/**
+ * An immutable trie of string keys, compared case-insensitively, which
+ * allows finding all keys starting with a prefix in time proportional to
+ * the length of the prefix and the number of matching keys.
+ *
+ * <p>Keys that only differ in case are considered equal, if several of them
+ * are given only the last one is kept. The keys returned from the trie are
+ * the keys in the case they were given in.</p>
+ *
+ * @param <V> The type of the values
+ */
+public final class PrefixTrie<V> {
+
+    private static final PrefixTrie<Object> EMPTY = new PrefixTrie<>(new Node<>(), 0);
+
+    private final Node<V> root;
+    private final int size;
+
+    private PrefixTrie(Node<V> root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    /**
+     * Gets an empty {@link PrefixTrie}.
+     *
+     * @param <V> The type of the values
+     * @return The empty trie
+     */
+    @SuppressWarnings("unchecked")
+    public static <V> PrefixTrie<V> of() {
+        return (PrefixTrie<V>) EMPTY;
+    }
+
+    /**
+     * Creates a new {@link PrefixTrie} containing the given entries.
+     *
+     * @param entries The entries
+     * @param <V> The type of the values
+     * @return The new trie
+     */
+    public static <V> PrefixTrie<V> of(Map<String, ? extends V> entries) {
+        checkNotNull(entries, "entries");
+        final Node<V> root = new Node<>();
+        int size = 0;
+        for (Map.Entry<String, ? extends V> entry : entries.entrySet()) {
+            final String key = checkNotNull(entry.getKey(), "key");
+            Node<V> node = root;
+            for (int i = 0; i < key.length(); i++) {
+                node = node.getOrCreate(Character.toLowerCase(key.charAt(i)));
+            }
+            if (node.key == null) {
+                size++;
+            }
+            node.key = key;
+            node.value = checkNotNull(entry.getValue(), "value");
+        }
+        return new PrefixTrie<>(root, size);
+    }
+
+    @Nullable
+    private Node<V> find(String key) {
+        Node<V> node = this.root;
+        for (int i = 0; i < key.length() && node != null; i++) {
+            node = node.get(Character.toLowerCase(key.charAt(i)));
+        }
+        return node;
+    }
+
+    /**
+     * Gets the value of the given key.
+     *
+     * @param key The key, case-insensitive
+     * @return The value, if present
+     */
+    public Optional<V> get(String key) {
+        checkNotNull(key, "key");
+        final Node<V> node = find(key);
+        return node == null ? Optional.empty() : Optional.ofNullable(node.value);
+    }
+
+    /**
+     * Gets whether this trie contains the given key.
+     *
+     * @param key The key, case-insensitive
+     * @return Whether the key is present
+     */
+    public boolean containsKey(String key) {
+        checkNotNull(key, "key");
+        final Node<V> node = find(key);
+        return node != null && node.key != null;
+    }
+
+    /**
+     * Passes every entry with a key starting with the given prefix to the
+     * given consumer, ordered by key.
+     *
+     * @param prefix The prefix, case-insensitive
+     * @param consumer The consumer to pass the keys and values to
+     */
+    public void forEachWithPrefix(String prefix, BiConsumer<String, ? super V> consumer) {
+        checkNotNull(prefix, "prefix");
+        checkNotNull(consumer, "consumer");
+        final Node<V> node = find(prefix);
+        if (node != null) {
+            node.forEach(consumer);
+        }
+    }
+
+    /**
+     * Gets all keys starting with the given prefix, ordered by key.
+     *
+     * @param prefix The prefix, case-insensitive
+     * @return The keys
+     */
+    public List<String> getKeysWithPrefix(String prefix) {
+        final ImmutableList.Builder<String> keys = ImmutableList.builder();
+        forEachWithPrefix(prefix, (key, value) -> keys.add(key));
+        return keys.build();
+    }
+
+    /**
+     * Gets all values with a key starting with the given prefix, ordered
+     * by key.
+     *
+     * @param prefix The prefix, case-insensitive
+     * @return The values
+     */
+    public List<V> getValuesWithPrefix(String prefix) {
+        final ImmutableList.Builder<V> values = ImmutableList.builder();
+        forEachWithPrefix(prefix, (key, value) -> values.add(value));
+        return values.build();
+    }
+
+    /**
+     * Gets the number of keys in this trie.
+     *
+     * @return The number of keys
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Gets whether this trie is empty.
+     *
+     * @return Whether this trie is empty
+     */
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    private static final class Node<V> {
+
+        private static final char[] NO_CHARS = new char[0];
+
+        // The lower case characters leading to the children, sorted
+        char[] chars = NO_CHARS;
+        List<Node<V>> children = new ArrayList<>(0);
+        @Nullable String key;
+        @Nullable V value;
+
+        @Nullable
+        Node<V> get(char c) {
+            final int index = Arrays.binarySearch(this.chars, c);
+            return index < 0 ? null : this.children.get(index);
+        }
+
+        Node<V> getOrCreate(char c) {
+            int index = Arrays.binarySearch(this.chars, c);
+            if (index >= 0) {
+                return this.children.get(index);
+            }
+            index = -index - 1;
+            final char[] chars = new char[this.chars.length + 1];
+            System.arraycopy(this.chars, 0, chars, 0, index);
+            chars[index] = c;
+            System.arraycopy(this.chars, index, chars, index + 1, this.chars.length - index);
+            final Node<V> child = new Node<>();
+            this.chars = chars;
+            this.children.add(index, child);
+            return child;
+        }
+
+        void forEach(BiConsumer<String, ? super V> consumer) {
+            if (this.key != null) {
+                consumer.accept(this.key, this.value);
+            }
+            for (Node<V> child : this.children) {
+                child.forEach(consumer);
+            }
+        }
+    }
+}
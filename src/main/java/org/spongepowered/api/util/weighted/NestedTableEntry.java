@@ -63,6 +63,24 @@ public List<T> get(Random rand) {
         return this.table.get(rand);
     }
 
+    /**
+     * Retrieves entries from the nested table and adds them to the given
+     * list. If the nested table is a plain {@link WeightedTable}, this
+     * doesn't allocate a new list. Otherwise the entries are retrieved
+     * through {@link #get(Random)}, so overrides of it and of
+     * {@link RandomObjectTable#get(Random)} are respected.
+     *
+     * @param rand The random object to use
+     * @param results The list to add the retrieved entries to
+     */
+    public void get(Random rand, List<? super T> results) {
+        if (getClass() == NestedTableEntry.class && this.table.getClass() == WeightedTable.class) {
+            ((WeightedTable<T>) this.table).get(rand, this.table.getRolls().getFlooredAmount(rand), results);
+        } else {
+            results.addAll(get(rand));
+        }
+    }
+
     @Override
     public boolean equals(Object o) {
         if (o == this) {
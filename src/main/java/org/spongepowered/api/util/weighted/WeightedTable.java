@@ -24,6 +24,9 @@
  */
 package org.spongepowered.api.util.weighted;
 
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
 import com.google.common.collect.Lists;
 
 import java.util.Collection;
@@ -31,16 +34,23 @@
 import java.util.List;
 import java.util.Random;
 
+import javax.annotation.Nullable;
+
 /**
  * A table of weighted entry, each entry is given a weight, the higher the
  * weight the more likely the chance that the entry is chosen. Each roll will
  * only return a single entries value.
  *
+ * <p>Rolls take constant time regardless of the number of entries, using an
+ * alias table which is built on the first roll after the table changed.</p>
+ *
  * @param <T> The entry type
  */
 public class WeightedTable<T> extends RandomObjectTable<T> {
 
     private double totalWeight = 0;
+    // Rebuilt lazily once the entries changed
+    @Nullable private AliasTable<T> aliasTable;
 
     /**
      * Creates a new {@link WeightedTable} with a default roll
@@ -143,6 +153,7 @@ public void clear() {
      * Recalculates the total weight of all entries in this table.
      */
     protected void recalculateWeight() {
+        this.aliasTable = null;
         this.totalWeight = 0;
         for (Iterator<TableEntry<T>> it = this.entries.iterator(); it.hasNext();) {
             TableEntry<T> entry = it.next();
@@ -163,23 +174,39 @@ public List<T> get(Random rand) {
         if (this.entries.isEmpty()) {
             return results;
         }
-        int rolls = getRolls().getFlooredAmount(rand);
+        get(rand, getRolls().getFlooredAmount(rand), results);
+        return results;
+    }
+
+    /**
+     * Rolls this table the given number of times, ignoring the
+     * {@link #getRolls() rolls} of this table, and adds the results to the
+     * given list. No other objects are allocated for the rolls, so a list
+     * can be reused for many calls.
+     *
+     * @param rand The random object to use
+     * @param rolls The number of rolls
+     * @param results The list to add the results to
+     */
+    public void get(Random rand, int rolls, List<? super T> results) {
+        checkNotNull(rand, "rand");
+        checkArgument(rolls >= 0, "Rolls cannot be negative");
+        checkNotNull(results, "results");
+        if (this.entries.isEmpty() || rolls == 0) {
+            return;
+        }
+        AliasTable<T> aliasTable = this.aliasTable;
+        if (aliasTable == null) {
+            this.aliasTable = aliasTable = new AliasTable<>(this.entries, this.totalWeight);
+        }
         for (int i = 0; i < rolls; i++) {
-            double roll = rand.nextDouble() * this.totalWeight;
-            for (Iterator<TableEntry<T>> it = this.entries.iterator(); it.hasNext();) {
-                TableEntry<T> next = it.next();
-                roll -= next.getWeight();
-                if (roll <= 0) {
-                    if (next instanceof NestedTableEntry) {
-                        results.addAll(((NestedTableEntry<T>) next).get(rand));
-                    } else if (next instanceof WeightedObject) {
-                        results.add(((WeightedObject<T>) next).get());
-                    }
-                    break;
-                }
+            TableEntry<T> next = aliasTable.roll(rand);
+            if (next instanceof NestedTableEntry) {
+                ((NestedTableEntry<T>) next).get(rand, results);
+            } else if (next instanceof WeightedObject) {
+                results.add(((WeightedObject<T>) next).get());
             }
         }
-        return results;
     }
 
     @Override
@@ -232,6 +259,70 @@ public String toString() {
         return r.toString();
     }
 
+    /**
+     * An alias table of the entries as described by Vose, allowing to pick an
+     * entry with a single random number.
+     */
+    private static final class AliasTable<T> {
+
+        private final TableEntry<T>[] entries;
+        // The chance to keep the entry of a column rather than its alias
+        private final double[] probabilities;
+        private final int[] aliases;
+
+        @SuppressWarnings("unchecked")
+        AliasTable(List<TableEntry<T>> entries, double totalWeight) {
+            final int size = entries.size();
+            this.entries = (TableEntry<T>[]) entries.toArray(new TableEntry<?>[size]);
+            this.probabilities = new double[size];
+            this.aliases = new int[size];
+            if (totalWeight <= 0) {
+                // Nothing has any weight, always pick the first entry
+                return;
+            }
+            final double[] scaled = new double[size];
+            final int[] small = new int[size];
+            final int[] large = new int[size];
+            int smallSize = 0;
+            int largeSize = 0;
+            for (int i = 0; i < size; i++) {
+                scaled[i] = this.entries[i].getWeight() * size / totalWeight;
+                if (scaled[i] < 1) {
+                    small[smallSize++] = i;
+                } else {
+                    large[largeSize++] = i;
+                }
+            }
+            while (smallSize > 0 && largeSize > 0) {
+                final int less = small[--smallSize];
+                final int more = large[--largeSize];
+                this.probabilities[less] = scaled[less];
+                this.aliases[less] = more;
+                scaled[more] = scaled[more] + scaled[less] - 1;
+                if (scaled[more] < 1) {
+                    small[smallSize++] = more;
+                } else {
+                    large[largeSize++] = more;
+                }
+            }
+            // What is left should be exactly 1 but may be off by rounding
+            while (largeSize > 0) {
+                this.probabilities[large[--largeSize]] = 1;
+            }
+            while (smallSize > 0) {
+                this.probabilities[small[--smallSize]] = 1;
+            }
+        }
+
+        TableEntry<T> roll(Random rand) {
+            // The integer part picks the column, the fraction picks between
+            // the entry of the column and its alias
+            final double roll = rand.nextDouble() * this.entries.length;
+            final int column = Math.min((int) roll, this.entries.length - 1);
+            return roll - column < this.probabilities[column] ? this.entries[column] : this.entries[this.aliases[column]];
+        }
+    }
+
     /**
      * An iterator which will properly trigger a rebuild of the total weight on
      * removal.
@@ -0,0 +1,53 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.world;
+
+import com.flowpowered.math.vector.Vector3i;
+
+/**
+ * The priority of an asynchronous chunk load, which decides the order in
+ * which the pending loads of a {@link World} go through their stages.
+ *
+ * @see World#loadChunkAsync(Vector3i, boolean, ChunkLoadPriority)
+ */
+public enum ChunkLoadPriority {
+
+    /**
+     * The chunk is loaded ahead of time, for example by a
+     * {@link ChunkPreGenerate pre-generation}, and may wait for all the other
+     * loads.
+     */
+    BACKGROUND,
+    /**
+     * The chunk is loaded with the default priority.
+     */
+    NORMAL,
+    /**
+     * The chunk is needed soon, for example around the destination of a
+     * teleport, and is loaded before the chunks with a lower priority.
+     */
+    URGENT
+
+}
@@ -48,8 +48,11 @@
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Future;
@@ -187,6 +190,13 @@ default Optional<Chunk> loadChunk(Vector3i chunkPosition, boolean shouldGenerate
      * main server thread. The {@link Future} will be called with the chunk once
      * the operation was completed.</p>
      *
+     * <p>Implementations supporting asynchronous chunk loading should load
+     * the chunk in stages: the chunk is read from the disk and decoded off the
+     * main thread, generated if it doesn't exist and {@code shouldGenerate}
+     * is true, and only then published to the world on the main thread, which
+     * completes the {@link Future}. If the future is cancelled before the
+     * chunk is published, the remaining stages should be skipped.</p>
+     *
      * <p><b>Note:</b> If asynchronous chunk loading is not supported by
      * the implementation, the chunk will be loaded synchronously and the
      * {@link Future} will be called immediately.</p>
@@ -222,6 +232,81 @@ default CompletableFuture<Optional<Chunk>> loadChunkAsync(int cx, int cy, int cz
         return CompletableFuture.completedFuture(loadChunk(cx, cy, cz, shouldGenerate));
     }
 
+    /**
+     * Gets the chunk at the given chunk coordinate position if it exists or if
+     * {@code shouldGenerate} is true and the chunk is generated, with the
+     * given priority over the other pending asynchronous loads.
+     *
+     * <p>The default implementation ignores the priority.</p>
+     *
+     * @param chunkPosition The position
+     * @param shouldGenerate True to generate a new chunk
+     * @param priority The priority of the load
+     * @return The future callback for the loaded chunk
+     * @see #loadChunkAsync(Vector3i, boolean)
+     */
+    default CompletableFuture<Optional<Chunk>> loadChunkAsync(Vector3i chunkPosition, boolean shouldGenerate, ChunkLoadPriority priority) {
+        return loadChunkAsync(chunkPosition, shouldGenerate);
+    }
+
+    /**
+     * Gets the chunks at the given chunk coordinate positions which exist or,
+     * if {@code shouldGenerate} is true, are generated.
+     *
+     * <p>The chunks are requested in the order of the region files holding
+     * them, and in the order in which they are stored within each region
+     * file, so that they can be read sequentially. Duplicate positions are
+     * only loaded once. The returned future completes once all the chunks are
+     * loaded, with the chunks by position; chunks which couldn't be loaded
+     * are absent. Cancelling it cancels the loads which are still
+     * pending.</p>
+     *
+     * @param chunkPositions The positions
+     * @param shouldGenerate True to generate new chunks
+     * @param priority The priority of the loads
+     * @return The future callback for the loaded chunks
+     * @see #loadChunkAsync(Vector3i, boolean, ChunkLoadPriority)
+     */
+    default CompletableFuture<Map<Vector3i, Chunk>> loadChunksAsync(Iterable<Vector3i> chunkPositions, boolean shouldGenerate,
+            ChunkLoadPriority priority) {
+        final Set<Vector3i> sorted = new TreeSet<>(WorldStorage.regionOrder());
+        chunkPositions.forEach(sorted::add);
+        final Map<Vector3i, CompletableFuture<Optional<Chunk>>> loads = new LinkedHashMap<>();
+        final Map<Vector3i, CompletableFuture<Optional<Chunk>>> futures = new LinkedHashMap<>();
+        for (Vector3i position : sorted) {
+            final CompletableFuture<Optional<Chunk>> load = loadChunkAsync(position, shouldGenerate, priority);
+            loads.put(position, load);
+            // A chunk which fails to load is left out instead of failing the others
+            futures.put(position, load.exceptionally(error -> Optional.empty()));
+        }
+        final CompletableFuture<Map<Vector3i, Chunk>> result = CompletableFuture.allOf(futures.values().toArray(new CompletableFuture<?>[0]))
+                .thenApply(ignored -> {
+                    final Map<Vector3i, Chunk> chunks = new LinkedHashMap<>();
+                    futures.forEach((position, future) -> future.join().ifPresent(chunk -> chunks.put(position, chunk)));
+                    return chunks;
+                });
+        result.whenComplete((chunks, error) -> {
+            if (result.isCancelled()) {
+                loads.values().forEach(load -> load.cancel(false));
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Gets the chunks at the given chunk coordinate positions which exist or,
+     * if {@code shouldGenerate} is true, are generated, with the
+     * {@link ChunkLoadPriority#NORMAL normal} priority.
+     *
+     * @param chunkPositions The positions
+     * @param shouldGenerate True to generate new chunks
+     * @return The future callback for the loaded chunks
+     * @see #loadChunksAsync(Iterable, boolean, ChunkLoadPriority)
+     */
+    default CompletableFuture<Map<Vector3i, Chunk>> loadChunksAsync(Iterable<Vector3i> chunkPositions, boolean shouldGenerate) {
+        return loadChunksAsync(chunkPositions, shouldGenerate, ChunkLoadPriority.NORMAL);
+    }
+
     /**
      * Unloads the given chunk from the world. Returns a {@code boolean} flag
      * for whether the operation was successful.
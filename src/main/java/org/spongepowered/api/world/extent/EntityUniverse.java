@@ -44,6 +44,7 @@
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 /**
@@ -369,6 +370,44 @@ default Set<EntityHit> getIntersectingEntities(Vector3d start, Vector3d directio
      */
     Set<EntityHit> getIntersectingEntities(Vector3d start, Vector3d direction, double distance, Predicate<EntityHit> filter);
 
+    /**
+     * Passes all the entities that intersect the bounding box to the given
+     * visitor, in no particular order.
+     *
+     * <p>Unlike {@link #getIntersectingEntities(AABB, Predicate)} this does
+     * not collect the entities into a new set. Implementations should only
+     * test the entities found near the box in a spatial index of the entity
+     * bounding boxes which is kept up to date as entities move, rather than
+     * every entity of this universe, so that repeated small queries stay
+     * cheap. The visitor must not spawn or remove entities.</p>
+     *
+     * @param box The intersection box
+     * @param visitor The visitor to pass the entities to
+     */
+    default void forEachIntersectingEntity(AABB box, Consumer<? super Entity> visitor) {
+        checkNotNull(visitor, "visitor");
+        getIntersectingEntities(box).forEach(visitor);
+    }
+
+    /**
+     * Passes all the entities that intersect the ray (by their bounding box)
+     * to the given visitor, in no particular order. The ray is defined by its
+     * start, direction and distance.
+     *
+     * <p>As with {@link #forEachIntersectingEntity(AABB, Consumer)}, only
+     * the entities near the ray should be tested and no set of the hits is
+     * created.</p>
+     *
+     * @param start The start of the ray
+     * @param direction The direction of the ray
+     * @param distance The distance of the ray (from the start)
+     * @param visitor The visitor to pass the hits to
+     */
+    default void forEachIntersectingEntity(Vector3d start, Vector3d direction, double distance, Consumer<? super EntityHit> visitor) {
+        checkNotNull(visitor, "visitor");
+        getIntersectingEntities(start, direction, distance).forEach(visitor);
+    }
+
     /**
      * The result of an intersection between a ray and an entity.
      */
@@ -25,6 +25,9 @@
 package org.spongepowered.api.world.extent;
 
 import com.flowpowered.math.vector.Vector3i;
+import org.spongepowered.api.world.schematic.BlockPalette;
+import org.spongepowered.api.world.schematic.BlockPaletteTypes;
+import org.spongepowered.api.world.schematic.Schematic;
 
 /**
  * A factory for creating buffers to store extent data.
@@ -115,6 +118,56 @@ default MutableBlockVolume createThreadSafeBlockBuffer(int xSize, int ySize, int
         return createThreadSafeBlockBuffer(new Vector3i(xSize, ySize, zSize));
     }
 
+    /**
+     * Returns a new block buffer of the desired size which stores its blocks
+     * as identifiers of the given {@link BlockPalette} instead of as
+     * references to the block states.
+     *
+     * <p>The identifiers are bit-packed, using only as many bits per block as
+     * are needed for the highest identifier of the palette. Setting a block
+     * which is not in the palette yet assigns it a new identifier, growing
+     * the number of bits per block when needed. This makes the buffer much
+     * smaller than a {@link #createBlockBuffer(Vector3i) standard buffer}
+     * when it only contains a few distinct block states, as is usually the
+     * case for copied areas.</p>
+     *
+     * <p>The palette is used directly by the buffer and must not have any
+     * block states still used by it removed. It can be passed to
+     * {@link Schematic.Builder#palette(BlockPalette)} to save the buffer
+     * without remapping its blocks.</p>
+     *
+     * @param size The size of the buffer on x, y and z
+     * @param palette The palette to store the blocks with
+     * @return A new block buffer
+     */
+    MutableBlockVolume createPaletteBlockBuffer(Vector3i size, BlockPalette palette);
+
+    /**
+     * Returns a new block buffer of the desired size backed by a new
+     * {@link BlockPaletteTypes#LOCAL local} palette.
+     *
+     * @param size The size of the buffer on x, y and z
+     * @return A new block buffer
+     * @see #createPaletteBlockBuffer(Vector3i, BlockPalette)
+     */
+    default MutableBlockVolume createPaletteBlockBuffer(Vector3i size) {
+        return createPaletteBlockBuffer(size, BlockPaletteTypes.LOCAL.create());
+    }
+
+    /**
+     * Returns a new block buffer of the desired size backed by a new
+     * {@link BlockPaletteTypes#LOCAL local} palette.
+     *
+     * @param xSize The size of the buffer on x
+     * @param ySize The size of the buffer on y
+     * @param zSize The size of the buffer on z
+     * @return A new block buffer
+     * @see #createPaletteBlockBuffer(Vector3i, BlockPalette)
+     */
+    default MutableBlockVolume createPaletteBlockBuffer(int xSize, int ySize, int zSize) {
+        return createPaletteBlockBuffer(new Vector3i(xSize, ySize, zSize));
+    }
+
     /**
      * Returns a new archetype volume of the desired size.
      *
@@ -134,4 +187,16 @@ default ArchetypeVolume createArchetypeVolume(Vector3i size) {
         return createArchetypeVolume(size, Vector3i.ZERO);
     }
 
+    /**
+     * Returns a new archetype volume of the desired size which stores its
+     * blocks in the same way as
+     * {@link #createPaletteBlockBuffer(Vector3i, BlockPalette)}.
+     *
+     * @param size The size of the volume
+     * @param origin The origin of the buffer
+     * @param palette The palette to store the blocks with
+     * @return A new archetype volume
+     */
+    ArchetypeVolume createArchetypeVolume(Vector3i size, Vector3i origin, BlockPalette palette);
+
 }
@@ -31,6 +31,7 @@
 import org.spongepowered.api.world.extent.worker.procedure.BiomeVolumeReducer;
 import org.spongepowered.api.world.extent.worker.procedure.BiomeVolumeVisitor;
 
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.BiFunction;
 
 /**
@@ -90,4 +91,51 @@
      */
     <T> T reduce(BiomeVolumeReducer<T> reducer, BiFunction<T, T, T> merge, T identity);
 
+    /**
+     * Gets whether this worker splits its operations into sub-volumes which
+     * are processed in parallel.
+     *
+     * @return Whether this worker is parallel
+     */
+    boolean isParallel();
+
+    /**
+     * Gets a worker for the same volume which splits its operations into
+     * sub-volumes processed in parallel on the common {@link ForkJoinPool}.
+     *
+     * @return A parallel worker
+     * @see #parallel(ForkJoinPool)
+     */
+    default BiomeVolumeWorker<V> parallel() {
+        return parallel(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Gets a worker for the same volume which splits its operations into
+     * sub-volumes processed in parallel on the given {@link ForkJoinPool}.
+     *
+     * <p>Operations of the returned worker still return once the whole
+     * volume has been processed, but the biomes are visited in no particular
+     * order and from several threads at once, so the procedures passed to it
+     * must be thread-safe and must not depend on the iteration order. Each
+     * sub-volume is reduced separately starting from the identity, and the
+     * partial reductions are then combined with the merge function. The merge
+     * function must therefore be associative, and the identity must be a
+     * true identity for it, so that merging it with any value yields that
+     * value. The same identity instance is passed to every sub-volume, so
+     * neither the reducer nor the merge function may mutate it.</p>
+     *
+     * @param pool The pool to run the operations on
+     * @return A parallel worker
+     */
+    BiomeVolumeWorker<V> parallel(ForkJoinPool pool);
+
+    /**
+     * Gets a worker for the same volume which processes every biome in order
+     * on the calling thread.
+     *
+     * @return A sequential worker
+     */
+    BiomeVolumeWorker<V> sequential();
+
 }
@@ -24,12 +24,15 @@
  */
 package org.spongepowered.api.world.extent.worker;
 
+import org.spongepowered.api.world.World;
 import org.spongepowered.api.world.extent.BiomeVolume;
 import org.spongepowered.api.world.extent.MutableBiomeVolume;
 import org.spongepowered.api.world.extent.worker.procedure.BiomeVolumeFiller;
 import org.spongepowered.api.world.extent.worker.procedure.BiomeVolumeMapper;
 import org.spongepowered.api.world.extent.worker.procedure.BiomeVolumeMerger;
 
+import java.util.concurrent.ForkJoinPool;
+
 /**
  * Similar to {@link BiomeVolumeWorker} but adds support for mutating the backing
  * volume.
@@ -72,4 +75,26 @@ default void merge(BiomeVolume right, BiomeVolumeMerger merger) {
      */
     void fill(BiomeVolumeFiller filler);
 
+    @Override
+    default MutableBiomeVolumeWorker<A> parallel() {
+        return parallel(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The mappers, mergers and fillers passed to the mutating operations
+     * of the returned worker are called in parallel as well. If the volume
+     * is not backed by a {@link World}, such as a buffer, the new biomes are
+     * also written from the threads of the pool, each sub-volume by only one
+     * thread. Otherwise the world is never mutated off the calling thread:
+     * the new biomes are computed in parallel and then applied on the calling
+     * thread, which has to be the main thread.</p>
+     */
+    @Override
+    MutableBiomeVolumeWorker<A> parallel(ForkJoinPool pool);
+
+    @Override
+    MutableBiomeVolumeWorker<A> sequential();
+
 }
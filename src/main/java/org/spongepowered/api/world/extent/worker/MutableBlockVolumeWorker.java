@@ -25,12 +25,15 @@
 package org.spongepowered.api.world.extent.worker;
 
 import org.spongepowered.api.event.cause.Cause;
+import org.spongepowered.api.world.World;
 import org.spongepowered.api.world.extent.BlockVolume;
 import org.spongepowered.api.world.extent.MutableBlockVolume;
 import org.spongepowered.api.world.extent.worker.procedure.BlockVolumeFiller;
 import org.spongepowered.api.world.extent.worker.procedure.BlockVolumeMapper;
 import org.spongepowered.api.world.extent.worker.procedure.BlockVolumeMerger;
 
+import java.util.concurrent.ForkJoinPool;
+
 /**
  * Similar to {@link BlockVolumeWorker} but adds support for mutating the
  * backing volume.
@@ -74,4 +77,26 @@ default void merge(BlockVolume right, BlockVolumeMerger merger) {
      */
     void fill(BlockVolumeFiller filler, Cause cause);
 
+    @Override
+    default MutableBlockVolumeWorker<V> parallel() {
+        return parallel(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The mappers, mergers and fillers passed to the mutating operations
+     * of the returned worker are called in parallel as well. If the volume
+     * is not backed by a {@link World}, such as a buffer, the new blocks are
+     * also written from the threads of the pool, each sub-volume by only one
+     * thread. Otherwise the world is never mutated off the calling thread:
+     * the new blocks are computed in parallel and then applied on the calling
+     * thread, which has to be the main thread.</p>
+     */
+    @Override
+    MutableBlockVolumeWorker<V> parallel(ForkJoinPool pool);
+
+    @Override
+    MutableBlockVolumeWorker<V> sequential();
+
 }
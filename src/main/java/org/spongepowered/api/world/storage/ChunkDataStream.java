@@ -25,8 +25,16 @@
 package org.spongepowered.api.world.storage;
 
 import org.spongepowered.api.data.DataContainer;
+import org.spongepowered.api.data.DataQuery;
 import org.spongepowered.api.world.Chunk;
 
+import java.util.Collection;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
 import javax.annotation.Nullable;
 
 /**
@@ -80,4 +88,74 @@ public interface ChunkDataStream {
      */
     void reset();
 
+    /**
+     * Gets a {@link Spliterator} over the remaining chunks of this stream,
+     * skipping the chunks for which no data could be read.
+     *
+     * <p>Implementations should walk the region files in the order in which
+     * they are stored, read the next region file ahead while the chunks of
+     * the current one are consumed, and split at region file boundaries, so
+     * that the chunks of different region files are decoded in parallel by
+     * the threads traversing the splits. The default implementation reads the
+     * chunks through {@link #next()} and splits them into batches, so only
+     * their processing is parallel.</p>
+     *
+     * @return A spliterator over the remaining chunks
+     */
+    default Spliterator<DataContainer> spliterator() {
+        return new Spliterators.AbstractSpliterator<DataContainer>(available(), Spliterator.ORDERED | Spliterator.NONNULL) {
+            @Override
+            public boolean tryAdvance(Consumer<? super DataContainer> action) {
+                while (ChunkDataStream.this.hasNext()) {
+                    final DataContainer data = ChunkDataStream.this.next();
+                    if (data != null) {
+                        action.accept(data);
+                        return true;
+                    }
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Gets a sequential {@link Stream} of the remaining chunks of this
+     * stream.
+     *
+     * @return A stream of the remaining chunks
+     * @see #spliterator()
+     */
+    default Stream<DataContainer> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Gets a parallel {@link Stream} of the remaining chunks of this stream.
+     *
+     * @return A parallel stream of the remaining chunks
+     * @see #spliterator()
+     */
+    default Stream<DataContainer> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
+    /**
+     * Gets a view of this stream whose chunks only contain the data at the
+     * given paths.
+     *
+     * <p>Implementations should only decode the data at these paths, which
+     * is much faster than decoding whole chunks when only a few values of
+     * each chunk are needed. The default implementation copies the data at
+     * these paths out of the whole chunks.</p>
+     *
+     * <p>The view reads from this stream, so reading from either of them
+     * advances both.</p>
+     *
+     * @param paths The paths of the data to read
+     * @return A view of this stream with only the given data
+     */
+    default ChunkDataStream project(Collection<DataQuery> paths) {
+        return new ProjectedChunkDataStream(this, paths);
+    }
+
 }
@@ -0,0 +1,109 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.world.storage;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.flowpowered.math.vector.Vector3i;
+import com.google.common.collect.ImmutableSet;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+/**
+ * Visits chunk coordinates in {@link WorldStorage#regionOrder() region order}
+ * for the default implementations of {@link WorldStorage}.
+ */
+final class ChunkRegions {
+
+    // Region files hold 32x32 chunks
+    private static final int REGION_SHIFT = 5;
+    private static final int REGION_SIZE = 1 << REGION_SHIFT;
+
+    /**
+     * Passes all the chunk coordinates between the given minimum and maximum,
+     * inclusive, to the given action in region order. The area is visited one
+     * region at a time, so the coordinates never need to be sorted.
+     *
+     * @param min The minimum chunk coordinates
+     * @param max The maximum chunk coordinates
+     * @param action The action to perform on each of the chunk coordinates
+     */
+    static void forEachBetween(Vector3i min, Vector3i max, Consumer<? super Vector3i> action) {
+        checkArgument(min.getX() <= max.getX() && min.getY() <= max.getY() && min.getZ() <= max.getZ(),
+                "The minimum %s is greater than the maximum %s", min, max);
+        for (int regionX = min.getX() >> REGION_SHIFT; regionX <= max.getX() >> REGION_SHIFT; regionX++) {
+            final int minX = Math.max(min.getX(), regionX << REGION_SHIFT);
+            final int maxX = Math.min(max.getX(), (regionX << REGION_SHIFT) + REGION_SIZE - 1);
+            for (int regionZ = min.getZ() >> REGION_SHIFT; regionZ <= max.getZ() >> REGION_SHIFT; regionZ++) {
+                final int minZ = Math.max(min.getZ(), regionZ << REGION_SHIFT);
+                final int maxZ = Math.min(max.getZ(), (regionZ << REGION_SHIFT) + REGION_SIZE - 1);
+                for (int z = minZ; z <= maxZ; z++) {
+                    for (int x = minX; x <= maxX; x++) {
+                        for (int y = min.getY(); y <= max.getY(); y++) {
+                            action.accept(new Vector3i(x, y, z));
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Collects the chunk coordinates which exist, once all of them were
+     * checked.
+     *
+     * @param futures The checks of the chunk coordinates, in region order
+     * @return The chunk coordinates which exist, in region order
+     */
+    static CompletableFuture<Set<Vector3i>> collectExisting(Map<Vector3i, CompletableFuture<Boolean>> futures) {
+        return CompletableFuture.allOf(futures.values().toArray(new CompletableFuture<?>[futures.size()])).thenApply(ignored -> {
+            final ImmutableSet.Builder<Vector3i> existing = ImmutableSet.builder();
+            futures.forEach((position, future) -> {
+                if (future.join()) {
+                    existing.add(position);
+                }
+            });
+            return existing.build();
+        });
+    }
+
+    /**
+     * Waits for all the given reads of chunk data.
+     *
+     * @param futures The reads of chunk data
+     * @return A future which completes once all the reads did
+     */
+    static CompletableFuture<Void> allRead(Collection<CompletableFuture<?>> futures) {
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[futures.size()]));
+    }
+
+    private ChunkRegions() {
+    }
+
+}
@@ -0,0 +1,151 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.world.storage;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.collect.ImmutableList;
+import org.spongepowered.api.data.DataContainer;
+import org.spongepowered.api.data.DataQuery;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+import javax.annotation.Nullable;
+
+/**
+ * The default {@link ChunkDataStream#project(Collection) projection} of a
+ * {@link ChunkDataStream}, which copies the projected data out of the
+ * whole chunks.
+ */
+final class ProjectedChunkDataStream implements ChunkDataStream {
+
+    private final ChunkDataStream stream;
+    private final ImmutableList<DataQuery> paths;
+
+    ProjectedChunkDataStream(ChunkDataStream stream, Collection<DataQuery> paths) {
+        this.stream = checkNotNull(stream, "stream");
+        this.paths = ImmutableList.copyOf(checkNotNull(paths, "paths"));
+    }
+
+    DataContainer copyPaths(DataContainer data) {
+        final DataContainer projection = DataContainer.createNew();
+        for (DataQuery path : this.paths) {
+            data.get(path).ifPresent(value -> projection.set(path, value));
+        }
+        return projection;
+    }
+
+    @Nullable
+    @Override
+    public DataContainer next() {
+        final DataContainer data = this.stream.next();
+        return data == null ? null : copyPaths(data);
+    }
+
+    @Override
+    public boolean hasNext() {
+        return this.stream.hasNext();
+    }
+
+    @Override
+    public int available() {
+        return this.stream.available();
+    }
+
+    @Override
+    public void reset() {
+        this.stream.reset();
+    }
+
+    @Override
+    public Spliterator<DataContainer> spliterator() {
+        // Keep the splitting of the underlying stream
+        return new ProjectedSpliterator(this.stream.spliterator());
+    }
+
+    @Override
+    public ChunkDataStream project(Collection<DataQuery> paths) {
+        checkNotNull(paths, "paths");
+        // Only the data within both projections is left
+        final Set<DataQuery> intersection = new LinkedHashSet<>();
+        for (DataQuery path : paths) {
+            for (DataQuery projected : this.paths) {
+                if (contains(projected, path)) {
+                    intersection.add(path);
+                } else if (contains(path, projected)) {
+                    intersection.add(projected);
+                }
+            }
+        }
+        return new ProjectedChunkDataStream(this.stream, intersection);
+    }
+
+    /**
+     * Gets whether the data at the given path is part of the data at the
+     * given parent path.
+     */
+    private static boolean contains(DataQuery parent, DataQuery path) {
+        final List<String> parentParts = parent.getParts();
+        final List<String> parts = path.getParts();
+        return parentParts.size() <= parts.size() && parentParts.equals(parts.subList(0, parentParts.size()));
+    }
+
+    private final class ProjectedSpliterator implements Spliterator<DataContainer> {
+
+        private final Spliterator<DataContainer> spliterator;
+
+        ProjectedSpliterator(Spliterator<DataContainer> spliterator) {
+            this.spliterator = spliterator;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super DataContainer> action) {
+            return this.spliterator.tryAdvance(data -> action.accept(copyPaths(data)));
+        }
+
+        @Nullable
+        @Override
+        public Spliterator<DataContainer> trySplit() {
+            final Spliterator<DataContainer> split = this.spliterator.trySplit();
+            return split == null ? null : new ProjectedSpliterator(split);
+        }
+
+        @Override
+        public long estimateSize() {
+            return this.spliterator.estimateSize();
+        }
+
+        @Override
+        public int characteristics() {
+            return this.spliterator.characteristics() & ~Spliterator.SORTED;
+        }
+    }
+
+}
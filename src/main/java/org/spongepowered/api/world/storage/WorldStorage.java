@@ -29,8 +29,16 @@
 import org.spongepowered.api.world.Chunk;
 import org.spongepowered.api.world.World;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.BiConsumer;
 
 /**
  * Represents the storage manager of a particular {@link World}.
@@ -41,12 +49,33 @@
  */
 public interface WorldStorage {
 
+    /**
+     * Gets a {@link Comparator} which orders chunk coordinates by the region
+     * file holding them, and then in the order in which they are stored within
+     * their region file. Reading chunks in this order keeps reads sequential.
+     *
+     * @return The region order of chunk coordinates
+     */
+    static Comparator<Vector3i> regionOrder() {
+        // Region files hold 32x32 chunks, stored row by row
+        return Comparator.<Vector3i>comparingInt(position -> position.getX() >> 5)
+                .thenComparingInt(position -> position.getZ() >> 5)
+                .thenComparingInt(Vector3i::getZ)
+                .thenComparingInt(Vector3i::getX)
+                .thenComparingInt(Vector3i::getY);
+    }
+
     /**
      * Gets a {@link ChunkDataStream}.
      *
      * <p>Usage of a {@link ChunkDataStream} should be limited to asynchronous
      * tasks to avoid hanging the main thread.</p>
      *
+     * <p>Whole worlds are best processed through
+     * {@link ChunkDataStream#parallelStream()}, after
+     * {@link ChunkDataStream#project projecting} the stream to the data
+     * which is actually needed.</p>
+     *
      * @return An iterator of generated chunks
      */
     ChunkDataStream getGeneratedChunks();
@@ -68,6 +97,44 @@ public interface WorldStorage {
      */
     CompletableFuture<Boolean> doesChunkExist(Vector3i chunkCoords);
 
+    /**
+     * Gets which of the given chunk coordinates exist in the world.
+     *
+     * <p>Implementations should group the coordinates by region file and
+     * answer from the headers of the region files, which are small enough to
+     * be cached in memory, instead of seeking into the region files. The
+     * default implementation checks each distinct coordinate with
+     * {@link #doesChunkExist(Vector3i)}, in {@link #regionOrder() region
+     * order}.</p>
+     *
+     * @param chunkCoords The chunk coordinates
+     * @return The chunk coordinates which exist, in region order
+     */
+    default CompletableFuture<Set<Vector3i>> getExistingChunks(Iterable<Vector3i> chunkCoords) {
+        final Set<Vector3i> sorted = new TreeSet<>(regionOrder());
+        chunkCoords.forEach(sorted::add);
+        final Map<Vector3i, CompletableFuture<Boolean>> futures = new LinkedHashMap<>();
+        for (Vector3i position : sorted) {
+            futures.put(position, doesChunkExist(position));
+        }
+        return ChunkRegions.collectExisting(futures);
+    }
+
+    /**
+     * Gets which of the chunk coordinates between the given minimum and
+     * maximum, inclusive, exist in the world.
+     *
+     * @param min The minimum chunk coordinates
+     * @param max The maximum chunk coordinates
+     * @return The chunk coordinates which exist, in region order
+     * @see #getExistingChunks(Iterable)
+     */
+    default CompletableFuture<Set<Vector3i>> getExistingChunks(Vector3i min, Vector3i max) {
+        final Map<Vector3i, CompletableFuture<Boolean>> futures = new LinkedHashMap<>();
+        ChunkRegions.forEachBetween(min, max, position -> futures.put(position, doesChunkExist(position)));
+        return ChunkRegions.collectExisting(futures);
+    }
+
     /**
      * Gets a {@link DataContainer} including all data related to a
      * {@link Chunk}.
@@ -88,6 +155,52 @@ public interface WorldStorage {
      */
     CompletableFuture<Optional<DataContainer>> getChunkData(Vector3i chunkCoords);
 
+    /**
+     * Reads the data of all the chunks at the given chunk coordinates which
+     * exist, and passes it to the given consumer as soon as it is read.
+     *
+     * <p>Implementations should group the coordinates by region file and
+     * read each region file sequentially, decoding the chunks in parallel.
+     * The consumer may therefore be called from several threads at once. The
+     * default implementation reads each distinct coordinate with
+     * {@link #getChunkData(Vector3i)}, in {@link #regionOrder() region
+     * order}.</p>
+     *
+     * <p>The data is read only, just like the data returned by
+     * {@link #getChunkData(Vector3i)}.</p>
+     *
+     * @param chunkCoords The chunk coordinates
+     * @param consumer The consumer of the chunk coordinates and their data
+     * @return A future which completes once all the data was consumed
+     */
+    default CompletableFuture<Void> getChunkData(Iterable<Vector3i> chunkCoords, BiConsumer<? super Vector3i, ? super DataContainer> consumer) {
+        final Set<Vector3i> sorted = new TreeSet<>(regionOrder());
+        chunkCoords.forEach(sorted::add);
+        final List<CompletableFuture<?>> futures = new ArrayList<>(sorted.size());
+        for (Vector3i position : sorted) {
+            futures.add(getChunkData(position).thenAccept(data -> data.ifPresent(container -> consumer.accept(position, container))));
+        }
+        return ChunkRegions.allRead(futures);
+    }
+
+    /**
+     * Reads the data of all the chunks between the given minimum and maximum
+     * chunk coordinates, inclusive, which exist, and passes it to the given
+     * consumer as soon as it is read.
+     *
+     * @param min The minimum chunk coordinates
+     * @param max The maximum chunk coordinates
+     * @param consumer The consumer of the chunk coordinates and their data
+     * @return A future which completes once all the data was consumed
+     * @see #getChunkData(Iterable, BiConsumer)
+     */
+    default CompletableFuture<Void> getChunkData(Vector3i min, Vector3i max, BiConsumer<? super Vector3i, ? super DataContainer> consumer) {
+        final List<CompletableFuture<?>> futures = new ArrayList<>();
+        ChunkRegions.forEachBetween(min, max, position ->
+                futures.add(getChunkData(position).thenAccept(data -> data.ifPresent(container -> consumer.accept(position, container)))));
+        return ChunkRegions.allRead(futures);
+    }
+
     /**
      * Gets the {@link WorldProperties} of this storage. In the vanilla storage
      * medium this represents the data available in the level.dat file.
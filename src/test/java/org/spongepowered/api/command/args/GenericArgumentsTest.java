@@ -26,6 +26,14 @@
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
 import static org.spongepowered.api.command.args.GenericArguments.allOf;
 import static org.spongepowered.api.command.args.GenericArguments.bool;
 import static org.spongepowered.api.command.args.GenericArguments.choices;
@@ -40,22 +48,35 @@
 import static org.spongepowered.api.command.args.GenericArguments.repeated;
 import static org.spongepowered.api.command.args.GenericArguments.seq;
 import static org.spongepowered.api.command.args.GenericArguments.string;
+import static org.spongepowered.api.command.args.GenericArguments.user;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
+import org.mockito.Answers;
 import org.mockito.Mockito;
+import org.spongepowered.api.Game;
 import org.spongepowered.api.command.CommandException;
 import org.spongepowered.api.command.CommandResult;
 import org.spongepowered.api.command.CommandSource;
+import org.spongepowered.api.command.args.parsing.SingleArg;
 import org.spongepowered.api.command.spec.CommandExecutor;
 import org.spongepowered.api.command.spec.CommandSpec;
+import org.spongepowered.api.profile.GameProfile;
+import org.spongepowered.api.service.ServiceManager;
+import org.spongepowered.api.service.user.UserStorageService;
 import org.spongepowered.api.text.TestPlainTextSerializer;
 import org.spongepowered.api.text.Text;
+import org.spongepowered.api.util.test.TestHooks;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
 
 /**
  * Tests for all argument types contained in GenericArguments.
@@ -75,6 +96,11 @@ public void initialize() throws Exception {
         TestPlainTextSerializer.inject();
     }
 
+    @After
+    public void tearDown() throws Exception {
+        TestHooks.setGame(null);
+    }
+
     private static Text untr(String string) {
         return Text.of(string);
     }
@@ -82,6 +108,28 @@ private static Text untr(String string) {
     @Rule
     public ExpectedException expected = ExpectedException.none();
 
+    private static UserStorageService userStorage() throws Exception {
+        final UserStorageService service = mock(UserStorageService.class, withSettings().defaultAnswer(Answers.CALLS_REAL_METHODS));
+        final ServiceManager serviceManager = mock(ServiceManager.class);
+        when(serviceManager.provideUnchecked(UserStorageService.class)).thenReturn(service);
+        final Game game = mock(Game.class);
+        when(game.getServiceManager()).thenReturn(serviceManager);
+        TestHooks.setGame(game);
+        return service;
+    }
+
+    private static GameProfile profile(String name) {
+        final GameProfile profile = mock(GameProfile.class);
+        when(profile.getName()).thenReturn(Optional.of(name));
+        return profile;
+    }
+
+    private static List<String> completeForInput(String input, CommandElement element) {
+        final CommandArgs args = new CommandArgs(input, input.isEmpty() ? ImmutableList.of()
+                : ImmutableList.of(new SingleArg(input, 0, input.length())));
+        return element.complete(MOCK_SOURCE, args, new CommandContext());
+    }
+
     private static CommandContext parseForInput(String input, CommandElement element) throws ArgumentParseException {
         CommandSpec spec = CommandSpec.builder()
                 .arguments(element)
@@ -215,10 +263,54 @@ public void testEnumValue() throws ArgumentParseException {
         parseForInput("notanel", enumEl);
     }
 
+    @Test
+    public void testEnumValuePatterns() throws ArgumentParseException {
+        CommandElement enumEl = enumValue(untr("val"), TestEnum.class);
+        assertEquals(ImmutableList.of(TestEnum.TWO), ImmutableList.copyOf(parseForInput("T", enumEl).getAll("val")));
+        assertEquals(ImmutableList.of(TestEnum.RED), ImmutableList.copyOf(parseForInput("r.d", enumEl).getAll("val")));
+        assertEquals(ImmutableSet.of(TestEnum.ONE, TestEnum.TWO), ImmutableSet.copyOf(parseForInput("(o|t)", enumEl).<TestEnum>getAll("val")));
+
+        final CommandArgs args = new CommandArgs("o", ImmutableList.of(new SingleArg("o", 0, 1)));
+        assertEquals(ImmutableList.of("one"), enumEl.complete(MOCK_SOURCE, args, new CommandContext()));
+    }
+
     @Test
     public void testRemainingJoinedStrings() throws ArgumentParseException {
         CommandElement remainingJoined = remainingJoinedStrings(untr("val"));
         assertEquals("one", parseForInput("one", remainingJoined).getOne("val").get());
         assertEquals("one big string", parseForInput("one big string", remainingJoined).getOne("val").get());
     }
+
+    @Test
+    public void testUserCompletionMatchesPrefix() throws Exception {
+        final UserStorageService service = userStorage();
+        doReturn(ImmutableList.of(profile("Notch"), profile("Nothing"))).when(service).match("no");
+
+        assertEquals(ImmutableList.of("Notch", "Nothing"), completeForInput("no", user(untr("user"))));
+        verify(service).match("no", 100);
+        verify(service, never()).getAll();
+    }
+
+    @Test
+    public void testUserCompletionFallsBackToPattern() throws Exception {
+        final UserStorageService service = userStorage();
+        doReturn(ImmutableList.of(profile("Notch"), profile("Nothing"), profile("jeb_"))).when(service).getAll();
+
+        assertEquals(ImmutableList.of("Notch", "Nothing"), completeForInput("N.t", user(untr("user"))));
+        verify(service, never()).match(anyString(), anyInt());
+    }
+
+    @Test
+    public void testUserCompletionIsTruncated() throws Exception {
+        final UserStorageService service = userStorage();
+        final List<GameProfile> profiles = new ArrayList<>();
+        for (int i = 0; i < 150; i++) {
+            profiles.add(profile("user" + i));
+        }
+        doReturn(profiles).when(service).match("");
+
+        final List<String> completions = completeForInput("", user(untr("user")));
+        assertEquals(100, completions.size());
+        assertEquals("user0", completions.get(0));
+    }
 }
@@ -154,4 +154,40 @@ public void testEquals() {
         assertThat(query1.equals(nonEqual), is(false));
     }
 
+    /**
+     * Method: popFirst()
+     */
+    @Test
+    public void testPopFirst() {
+        DataQuery prePopped = DataQuery.of("this", "test", "query");
+        DataQuery expected = DataQuery.of("test", "query");
+        assertThat(prePopped.popFirst().equals(expected), is(true));
+        assertThat(prePopped.popFirst().popFirst().equals(DataQuery.of("query")), is(true));
+        assertThat(DataQuery.of("single").popFirst().equals(DataQuery.of()), is(true));
+        assertThat(DataQuery.of().popFirst().equals(DataQuery.of()), is(true));
+    }
+
+    /**
+     * Method: hashCode()
+     */
+    @Test
+    public void testHashCode() {
+        final List<String> parts = ImmutableList.of("this", "test", "query");
+        assertThat(DataQuery.of(parts).hashCode() == DataQuery.of('.', "this.test").then("query").hashCode(), is(true));
+        assertThat(DataQuery.of(parts).hashCode() == DataQuery.of("test", "query").hashCode(), is(false));
+    }
+
+    /**
+     * Queries are interned, so equal queries are the same instance.
+     */
+    @Test
+    public void testInterned() {
+        final DataQuery query = DataQuery.of("this", "test", "query");
+        assertThat(query == DataQuery.of('.', "this.test.query"), is(true));
+        assertThat(query == DataQuery.of("this").then(DataQuery.of("test", "query")), is(true));
+        assertThat(query.pop() == DataQuery.of("this", "test"), is(true));
+        assertThat(query.popFirst() == DataQuery.of("test", "query"), is(true));
+        assertThat(query.last() == DataQuery.of("query"), is(true));
+    }
+
 }
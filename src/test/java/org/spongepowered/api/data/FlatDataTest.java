@@ -0,0 +1,174 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+import static org.spongepowered.api.data.DataQuery.of;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Maps;
+import org.junit.Test;
+
+import java.util.Map;
+
+@SuppressWarnings("deprecation")
+public class FlatDataTest {
+
+    private static void fill(DataView view) {
+        view.set(of("foo", "bar", "foo"), "foo");
+        view.set(of("foo", "bar", "bar"), "foobar");
+        view.set(of("foo", "bar", "baz"), "foobarbaz");
+        view.set(of("foo", "list"), ImmutableList.of(1, 2, 3));
+        view.set(of("bar"), 1);
+    }
+
+    @Test
+    public void testSetAndGetDeep() {
+        DataContainer container = new FlatDataContainer();
+        DataQuery query = of("foo", "bar", "baz");
+        container.set(query, 1);
+        assertEquals(1, (int) container.getInt(query).get());
+        assertTrue(container.contains(of("foo", "bar")));
+        assertTrue(container.getView(of("foo", "bar")).isPresent());
+        DataView view = container.getView(of("foo")).get();
+        assertEquals(of("foo"), view.getCurrentPath());
+        assertEquals(1, (int) view.getInt(of("bar", "baz")).get());
+        assertFalse(container.contains(of("foo", "baz")));
+    }
+
+    @Test
+    public void testSameKeysAndValuesAsMemory() {
+        DataContainer flat = new FlatDataContainer();
+        DataContainer memory = new MemoryDataContainer();
+        fill(flat);
+        fill(memory);
+
+        assertEquals(memory.getKeys(false), flat.getKeys(false));
+        assertEquals(memory.getKeys(true), flat.getKeys(true));
+        assertEquals(memory.getValues(false), flat.getValues(false));
+        assertEquals(memory.getValues(true), flat.getValues(true));
+        assertEquals(memory.getView(of("foo")).get().getKeys(true), flat.getView(of("foo")).get().getKeys(true));
+        assertEquals(memory.getMap(of()), flat.getMap(of()));
+    }
+
+    @Test
+    public void testViewsInside() {
+        DataContainer container = new FlatDataContainer();
+        DataView view = container.createView(of("foo"));
+        view.set(of("bar", "baz"), "foobarbaz");
+        assertEquals("foobarbaz", container.getString(of("foo", "bar", "baz")).get());
+        assertEquals(ImmutableSet.of(of("bar"), of("bar", "baz")), view.getKeys(true));
+        assertEquals(view, view.getView(of("bar")).get().getParent().get());
+    }
+
+    @Test
+    public void testRemove() {
+        DataContainer container = new FlatDataContainer();
+        fill(container);
+        final DataView removed = container.getView(of("foo", "bar")).get();
+        container.remove(of("foo", "bar"));
+        assertFalse(container.contains(of("foo", "bar")));
+        assertFalse(container.contains(of("foo", "bar", "baz")));
+        assertTrue(container.contains(of("foo", "list")));
+        assertTrue(removed.isEmpty());
+
+        container.set(of("foo", "bar", "baz"), "baz");
+        assertFalse(removed.get(of("baz")).isPresent());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testRemoveFromDetachedView() {
+        DataContainer container = new FlatDataContainer();
+        fill(container);
+        final DataView removed = container.getView(of("foo", "bar")).get();
+        container.remove(of("foo", "bar"));
+        container.set(of("foo", "bar", "baz"), "baz");
+        try {
+            removed.remove(of("baz"));
+        } finally {
+            assertTrue(container.contains(of("foo", "bar", "baz")));
+        }
+    }
+
+    @Test
+    public void testReplaceValueWithView() {
+        DataContainer container = new FlatDataContainer();
+        container.set(of("foo"), "foo");
+        container.set(of("foo", "bar"), "foobar");
+        assertTrue(container.getView(of("foo")).isPresent());
+        assertEquals("foobar", container.getString(of("foo", "bar")).get());
+
+        container.set(of("foo"), "foo");
+        assertFalse(container.contains(of("foo", "bar")));
+        assertEquals(ImmutableSet.of(of("foo")), container.getKeys(true));
+    }
+
+    @Test
+    public void testSafetyModes() {
+        int[] array = {1, 2, 3};
+        DataContainer cloned = new FlatDataContainer(DataView.SafetyMode.ALL_DATA_CLONED);
+        cloned.set(of("foo", "array"), array);
+        assertNotSame(array, cloned.get(of("foo", "array")).get());
+        assertNotSame(cloned.get(of("foo", "array")).get(), cloned.get(of("foo", "array")).get());
+
+        DataContainer clonedOnSet = new FlatDataContainer(DataView.SafetyMode.CLONED_ON_SET);
+        clonedOnSet.set(of("foo", "array"), array);
+        assertNotSame(array, clonedOnSet.get(of("foo", "array")).get());
+        assertTrue(clonedOnSet.get(of("foo", "array")).get() == clonedOnSet.get(of("foo", "array")).get());
+
+        DataContainer notCloned = new FlatDataContainer(DataView.SafetyMode.NO_DATA_CLONED);
+        notCloned.set(of("foo", "array"), array);
+        assertTrue(array == notCloned.get(of("foo", "array")).get());
+    }
+
+    @Test
+    public void testMaps() {
+        Map<String, Object> myMap = Maps.newHashMap();
+        myMap.put("foo", "bar");
+        myMap.put("myNumber", 1);
+        DataView view = new FlatDataContainer();
+        view.set(of("Foo"), myMap);
+
+        Map<?, ?> retrievedMap = view.getMap(of("Foo")).get();
+        assertEquals(myMap, retrievedMap);
+    }
+
+    @Test
+    public void testCopy() {
+        final DataContainer container = new FlatDataContainer();
+        fill(container);
+        final DataContainer copy = container.copy();
+        assertTrue(copy instanceof FlatDataContainer);
+        assertEquals(container, copy);
+        assertEquals(container.hashCode(), copy.hashCode());
+        final DataContainer internal = container.getView(of("foo", "bar")).get().copy();
+        assertEquals(new FlatDataContainer().set(of("foo"), "foo").set(of("bar"), "foobar").set(of("baz"), "foobarbaz"), internal);
+    }
+
+}
@@ -220,5 +220,47 @@ public void testListedArray() {
         assertThat(stringList.equals(fooList), is(true));
     }
 
+    @Test
+    public void testWithSharedParent() {
+        final Cause root = Cause.source("foo").build().with(NamedCause.of("bar", "bar"));
+        final Cause first = root.with(NamedCause.of("first", 1));
+        final Cause second = root.with(NamedCause.of("second", 2));
+        assertThat(root.all(), equalTo(ImmutableList.of("foo", "bar")));
+        assertThat(first.all(), equalTo(ImmutableList.of("foo", "bar", 1)));
+        assertThat(second.all(), equalTo(ImmutableList.of("foo", "bar", 2)));
+        assertThat(first.containsNamed("second"), is(false));
+        assertThat(root.last(Integer.class).isPresent(), is(false));
+        assertThat(second.last(Integer.class), equalTo(Optional.of(2)));
+        assertThat(first.with(NamedCause.of("third", 3)).allOf(Integer.class), equalTo(ImmutableList.of(1, 3)));
+        assertThat(first, equalTo(Cause.builder().named("source", "foo").named("bar", "bar").named("first", 1).build()));
+        assertThat(first.hashCode(), equalTo(ImmutableList.of("foo", "bar", 1).hashCode()));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testWithDuplicateName() {
+        Cause.source("foo").build().with(NamedCause.of(NamedCause.SOURCE, "bar"));
+    }
+
+    @Test
+    public void testMerge() {
+        final Cause cause = Cause.source("foo").named("bar", 1).build();
+        final Cause merged = cause.merge(Cause.source("baz").named("bar", 2).build());
+        assertThat(merged.all(), equalTo(ImmutableList.of("foo", 1, "baz", 2)));
+        assertThat(merged.get("source1", String.class), equalTo(Optional.of("baz")));
+        assertThat(merged.get("bar1", Integer.class), equalTo(Optional.of(2)));
+        assertThat(cause.merge(cause).all(), hasSize(4));
+    }
+
+    @Test
+    public void testTypeQueries() {
+        final Cause cause = Cause.builder().named("foo", "foo").named("numero1", 1).named("bar", "bar").named("duo", 2).build();
+        assertThat(cause.first(Integer.class), equalTo(Optional.of(1)));
+        assertThat(cause.last(Integer.class), equalTo(Optional.of(2)));
+        assertThat(cause.last(String.class), equalTo(Optional.of("bar")));
+        assertThat(cause.allOf(Number.class), equalTo(ImmutableList.of(1, 2)));
+        assertThat(cause.containsType(Double.class), is(false));
+        assertThat(cause.before(String.class), equalTo(Optional.of(1)));
+        assertThat(cause.after(Integer.class), equalTo(Optional.of("bar")));
+    }
 
 }
@@ -0,0 +1,169 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.item.recipe.crafting;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import org.junit.Before;
+import org.junit.Test;
+import org.spongepowered.api.item.ItemType;
+import org.spongepowered.api.item.inventory.ItemStack;
+import org.spongepowered.api.item.inventory.crafting.CraftingGridInventory;
+import org.spongepowered.api.world.World;
+
+import java.util.Optional;
+
+public class CraftingRecipeIndexTest {
+
+    private final World world = mock(World.class);
+    private ItemType stick;
+    private ItemType coal;
+    private ItemType planks;
+
+    private static ItemType itemType() {
+        return mock(ItemType.class);
+    }
+
+    private static Ingredient ingredient(ItemType type) {
+        final Ingredient ingredient = mock(Ingredient.class);
+        when(ingredient.getMatchedTypes()).thenReturn(Optional.of(ImmutableSet.of(type)));
+        return ingredient;
+    }
+
+    private static CraftingGridInventory grid(ItemType... slots) {
+        final CraftingGridInventory grid = mock(CraftingGridInventory.class);
+        when(grid.getColumns()).thenReturn(3);
+        when(grid.getRows()).thenReturn(3);
+        when(grid.peek(any(Integer.class), any(Integer.class))).thenReturn(Optional.empty());
+        for (int i = 0; i < slots.length; i++) {
+            if (slots[i] != null) {
+                final ItemStack stack = mock(ItemStack.class);
+                when(stack.getItem()).thenReturn(slots[i]);
+                when(stack.copy()).thenReturn(stack);
+                when(stack.equalTo(any())).thenAnswer(invocation -> invocation.getArguments()[0] == stack);
+                when(grid.peek(i % 3, i / 3)).thenReturn(Optional.of(stack));
+            }
+        }
+        return grid;
+    }
+
+    @Before
+    public void setUp() {
+        this.stick = itemType();
+        this.coal = itemType();
+        this.planks = itemType();
+    }
+
+    @Test
+    public void testCandidatesAreNarrowed() {
+        final ShapedCraftingRecipe torch = mock(ShapedCraftingRecipe.class);
+        when(torch.getWidth()).thenReturn(1);
+        when(torch.getHeight()).thenReturn(2);
+        final Ingredient coalIngredient = ingredient(this.coal);
+        final Ingredient stickIngredient = ingredient(this.stick);
+        when(torch.getIngredient(0, 0)).thenReturn(coalIngredient);
+        when(torch.getIngredient(0, 1)).thenReturn(stickIngredient);
+        when(torch.isValid(any(), any())).thenReturn(true);
+
+        final ShapelessCraftingRecipe sticks = mock(ShapelessCraftingRecipe.class);
+        final Ingredient planksIngredient = ingredient(this.planks);
+        when(sticks.getIngredientPredicates()).thenReturn(ImmutableList.of(planksIngredient, planksIngredient));
+        when(sticks.isValid(any(), any())).thenReturn(true);
+
+        final CraftingRecipeIndex index = CraftingRecipeIndex.of(ImmutableList.of(torch, sticks));
+
+        assertEquals(Optional.of(torch), index.findMatchingRecipe(grid(this.coal, null, null, this.stick), this.world));
+        assertEquals(Optional.of(sticks), index.findMatchingRecipe(grid(this.planks, null, null, this.planks), this.world));
+        // Too wide for the torch and wrong count for the sticks
+        assertEquals(Optional.empty(), index.findMatchingRecipe(grid(this.coal, this.stick, this.planks), this.world));
+        verify(torch, times(1)).isValid(any(), any());
+        verify(sticks, times(1)).isValid(any(), any());
+    }
+
+    @Test
+    public void testUnindexedRecipesAreTested() {
+        final CraftingRecipe custom = mock(CraftingRecipe.class);
+        final ShapelessCraftingRecipe opaque = mock(ShapelessCraftingRecipe.class);
+        final Ingredient ingredient = mock(Ingredient.class);
+        when(ingredient.getMatchedTypes()).thenReturn(Optional.empty());
+        when(opaque.getIngredientPredicates()).thenReturn(ImmutableList.of(ingredient));
+        when(opaque.isValid(any(), any())).thenReturn(true);
+
+        final CraftingRecipeIndex index = CraftingRecipeIndex.of(ImmutableList.of(custom, opaque));
+        assertEquals(Optional.of(opaque), index.findMatchingRecipe(grid(this.stick), this.world));
+        verify(custom).isValid(any(), any());
+    }
+
+    @Test
+    public void testFirstRecipeWins() {
+        final ShapelessCraftingRecipe first = mock(ShapelessCraftingRecipe.class);
+        final ShapelessCraftingRecipe second = mock(ShapelessCraftingRecipe.class);
+        final Ingredient stickIngredient = ingredient(this.stick);
+        when(first.getIngredientPredicates()).thenReturn(ImmutableList.of(stickIngredient));
+        when(second.getIngredientPredicates()).thenReturn(ImmutableList.of(stickIngredient));
+        when(first.isValid(any(), any())).thenReturn(false, true);
+        when(second.isValid(any(), any())).thenReturn(true);
+
+        final CraftingRecipeIndex index = CraftingRecipeIndex.of(ImmutableList.of(first, second));
+        final CraftingGridInventory grid = grid(this.stick);
+        assertEquals(Optional.of(second), index.findMatchingRecipe(grid, this.world));
+        // The first recipe takes precedence once it matches a grid with other items
+        final CraftingGridInventory changed = grid(this.stick);
+        assertEquals(Optional.of(first), index.findMatchingRecipe(changed, this.world));
+        verify(second, times(1)).isValid(any(), any());
+    }
+
+    @Test
+    public void testUnchangedGridIsNotTested() {
+        final ShapelessCraftingRecipe first = mock(ShapelessCraftingRecipe.class);
+        final ShapelessCraftingRecipe second = mock(ShapelessCraftingRecipe.class);
+        final Ingredient stickIngredient = ingredient(this.stick);
+        when(first.getIngredientPredicates()).thenReturn(ImmutableList.of(stickIngredient));
+        when(second.getIngredientPredicates()).thenReturn(ImmutableList.of(stickIngredient));
+        when(second.isValid(any(), any())).thenReturn(true);
+
+        final CraftingRecipeIndex index = CraftingRecipeIndex.of(ImmutableList.of(first, second));
+        final CraftingGridInventory grid = grid(this.stick);
+        assertEquals(Optional.of(second), index.findMatchingRecipe(grid, this.world));
+        assertEquals(Optional.of(second), index.findMatchingRecipe(grid, this.world));
+        verify(first, times(1)).isValid(any(), any());
+        verify(second, times(1)).isValid(any(), any());
+
+        // Other items in the same grid are tested again
+        final ItemStack stack = mock(ItemStack.class);
+        when(stack.getItem()).thenReturn(this.stick);
+        when(grid.peek(0, 0)).thenReturn(Optional.of(stack));
+        assertEquals(Optional.of(second), index.findMatchingRecipe(grid, this.world));
+        verify(first, times(2)).isValid(any(), any());
+    }
+
+}
@@ -0,0 +1,209 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.profile;
+
+import static org.hamcrest.Matchers.contains;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+public class BoundedGameProfileCacheTest {
+
+    private final long[] time = {0};
+    private GameProfileManager manager;
+    private BoundedGameProfileCache cache;
+
+    private static GameProfile profile(String name) {
+        final GameProfile profile = mock(GameProfile.class);
+        when(profile.getUniqueId()).thenReturn(UUID.randomUUID());
+        when(profile.getName()).thenReturn(Optional.of(name));
+        return profile;
+    }
+
+    @Before
+    public void setUp() {
+        this.manager = mock(GameProfileManager.class);
+        this.cache = BoundedGameProfileCache.builder()
+                .manager(this.manager)
+                .executor(Runnable::run)
+                .ticker(() -> this.time[0])
+                .build();
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testExecutorRequired() {
+        BoundedGameProfileCache.builder().manager(this.manager).build();
+    }
+
+    @Test
+    public void testExpirationDateEvictsEarly() {
+        final GameProfile first = profile("first");
+        assertTrue(this.cache.add(first, false, new Date(System.currentTimeMillis() + TimeUnit.HOURS.toMillis(1))));
+        assertEquals(Optional.of(first), this.cache.getById(first.getUniqueId()));
+
+        this.time[0] = TimeUnit.HOURS.toNanos(2);
+        assertEquals(Optional.empty(), this.cache.getById(first.getUniqueId()));
+        assertEquals(Optional.empty(), this.cache.getByName("first"));
+    }
+
+    @Test
+    public void testStaleProfileIsRefreshed() {
+        final GameProfile first = profile("Notch");
+        assertTrue(this.cache.add(first));
+        final UUID uniqueId = first.getUniqueId();
+        final GameProfile renamed = mock(GameProfile.class);
+        when(renamed.getUniqueId()).thenReturn(uniqueId);
+        when(renamed.getName()).thenReturn(Optional.of("jeb_"));
+        when(this.manager.getAllById(any(), anyBoolean()))
+                .thenReturn(CompletableFuture.completedFuture(ImmutableList.of(renamed)));
+
+        // Past the default refresh duration, but not yet expired
+        this.time[0] = TimeUnit.DAYS.toNanos(25);
+        assertEquals(Optional.of(first), this.cache.getById(uniqueId));
+        assertEquals(Optional.of(renamed), this.cache.getById(uniqueId));
+        assertEquals(Optional.of(renamed), this.cache.getByName("jeb_"));
+        verify(this.manager, times(1)).getAllById(ImmutableList.of(uniqueId), false);
+    }
+
+    @Test
+    public void testGetOrLookupByIds() {
+        final GameProfile first = profile("first");
+        final UUID missing = UUID.randomUUID();
+        when(this.manager.getAllById(any(), anyBoolean()))
+                .thenReturn(CompletableFuture.completedFuture(ImmutableList.of(first)));
+
+        final Map<UUID, Optional<GameProfile>> result = this.cache.getOrLookupByIds(ImmutableList.of(first.getUniqueId(), missing));
+        assertEquals(Optional.of(first), result.get(first.getUniqueId()));
+        assertEquals(Optional.empty(), result.get(missing));
+
+        assertEquals(Optional.of(first), this.cache.getOrLookupById(first.getUniqueId()));
+        assertEquals(1, this.cache.getStats().hitCount());
+        verify(this.manager, times(1)).getAllById(any(), anyBoolean());
+    }
+
+    @Test
+    public void testConcurrentLookupsAreCoalesced() throws Exception {
+        final GameProfile first = profile("first");
+        final GameProfile second = profile("second");
+        final CompletableFuture<Collection<GameProfile>> firstLookup = new CompletableFuture<>();
+        when(this.manager.getAllById(ImmutableList.of(first.getUniqueId()), false)).thenReturn(firstLookup);
+        when(this.manager.getAllById(ImmutableList.of(second.getUniqueId()), false))
+                .thenReturn(CompletableFuture.completedFuture(ImmutableList.of(second)));
+
+        final CompletableFuture<Map<UUID, Optional<GameProfile>>> firstResult =
+                CompletableFuture.supplyAsync(() -> this.cache.lookupByIds(ImmutableList.of(first.getUniqueId())));
+        verify(this.manager, timeout(5000)).getAllById(ImmutableList.of(first.getUniqueId()), false);
+        final CompletableFuture<Map<UUID, Optional<GameProfile>>> bothResult =
+                CompletableFuture.supplyAsync(() -> this.cache.lookupByIds(ImmutableList.of(first.getUniqueId(), second.getUniqueId())));
+        verify(this.manager, timeout(5000)).getAllById(ImmutableList.of(second.getUniqueId()), false);
+        assertFalse(bothResult.isDone());
+
+        firstLookup.complete(ImmutableList.of(first));
+        assertEquals(Optional.of(first), firstResult.get().get(first.getUniqueId()));
+        assertEquals(Optional.of(first), bothResult.get().get(first.getUniqueId()));
+        assertEquals(Optional.of(second), bothResult.get().get(second.getUniqueId()));
+
+        verify(this.manager, times(2)).getAllById(any(), anyBoolean());
+    }
+
+    @Test
+    public void testNameIndex() {
+        final GameProfile first = profile("Notch");
+        final GameProfile second = profile("Nothing");
+        final GameProfile third = profile("jeb_");
+        assertTrue(this.cache.add(first));
+        assertTrue(this.cache.add(second));
+        assertTrue(this.cache.add(third));
+        assertFalse(this.cache.add(first, false, null));
+
+        assertEquals(Optional.of(first), this.cache.getByName("notch"));
+        assertThat(this.cache.match("NOT"), contains(first, second));
+
+        this.cache.remove(first);
+        assertEquals(Optional.empty(), this.cache.getByName("Notch"));
+        assertThat(this.cache.match("not"), contains(second));
+    }
+
+    @Test
+    public void testLoadedProfilesAreIndexed() {
+        final GameProfile first = profile("Notch");
+        when(this.manager.getAllById(any(), anyBoolean()))
+                .thenReturn(CompletableFuture.completedFuture(ImmutableList.of(first)));
+
+        assertEquals(Optional.of(first), this.cache.getOrLookupById(first.getUniqueId()));
+        assertEquals(Optional.of(first), this.cache.getByName("Notch"));
+        assertThat(this.cache.match("no"), contains(first));
+    }
+
+    @Test
+    public void testRenamedProfileIsReindexed() {
+        final GameProfile first = profile("Notch");
+        assertTrue(this.cache.add(first));
+        final UUID uniqueId = first.getUniqueId();
+        final GameProfile renamed = mock(GameProfile.class);
+        when(renamed.getUniqueId()).thenReturn(uniqueId);
+        when(renamed.getName()).thenReturn(Optional.of("jeb_"));
+        assertTrue(this.cache.add(renamed, true, null));
+
+        assertEquals(Optional.empty(), this.cache.getByName("Notch"));
+        assertEquals(Optional.of(renamed), this.cache.getByName("jeb_"));
+        assertTrue(this.cache.match("no").isEmpty());
+    }
+
+    @Test
+    public void testLookupByNamesIsCoalesced() {
+        final GameProfile first = profile("Notch");
+        when(this.manager.getAllByName(any(), anyBoolean()))
+                .thenReturn(CompletableFuture.completedFuture(ImmutableList.of(first)));
+
+        final Map<String, Optional<GameProfile>> result = this.cache.lookupByNames(ImmutableList.of("Notch", "notch", "jeb_"));
+        assertEquals(Optional.of(first), result.get("Notch"));
+        assertEquals(Optional.of(first), result.get("notch"));
+        assertEquals(Optional.empty(), result.get("jeb_"));
+        verify(this.manager, times(1)).getAllByName(ImmutableList.of("notch", "jeb_"), false);
+        assertEquals(Optional.of(first), this.cache.getById(first.getUniqueId()));
+    }
+
+}
@@ -0,0 +1,175 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.profile;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Iterables;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+
+public class CoalescingGameProfileManagerTest {
+
+    private final Map<UUID, GameProfile> profiles = new HashMap<>();
+    private GameProfileManager backend;
+    private ScheduledExecutorService scheduler;
+
+    private GameProfile profile(String name) {
+        final GameProfile profile = mock(GameProfile.class);
+        final UUID uniqueId = UUID.randomUUID();
+        when(profile.getUniqueId()).thenReturn(uniqueId);
+        when(profile.getName()).thenReturn(Optional.of(name));
+        this.profiles.put(uniqueId, profile);
+        return profile;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Before
+    public void setUp() {
+        this.backend = mock(GameProfileManager.class);
+        when(this.backend.getAllById(any(), anyBoolean())).thenAnswer(invocation -> {
+            final ImmutableList.Builder<GameProfile> found = ImmutableList.builder();
+            for (UUID uniqueId : (Iterable<UUID>) invocation.getArguments()[0]) {
+                if (this.profiles.containsKey(uniqueId)) {
+                    found.add(this.profiles.get(uniqueId));
+                }
+            }
+            return CompletableFuture.completedFuture(found.build());
+        });
+        this.scheduler = Executors.newSingleThreadScheduledExecutor();
+    }
+
+    @After
+    public void tearDown() {
+        this.scheduler.shutdownNow();
+    }
+
+    private CoalescingGameProfileManager manager(int maxBatchSize) {
+        return CoalescingGameProfileManager.builder()
+                .delegate(this.backend)
+                .scheduler(this.scheduler)
+                .window(Duration.ofMillis(20))
+                .maxBatchSize(maxBatchSize)
+                .build();
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    @Test
+    public void testRequestsAreBatched() throws Exception {
+        final CoalescingGameProfileManager manager = manager(100);
+        final GameProfile first = profile("first");
+        final GameProfile second = profile("second");
+
+        final CompletableFuture<GameProfile> firstResult = manager.get(first.getUniqueId());
+        final CompletableFuture<GameProfile> secondResult = manager.get(second.getUniqueId());
+        final CompletableFuture<GameProfile> repeatedResult = manager.get(first.getUniqueId());
+        assertSame(first, firstResult.get());
+        assertSame(second, secondResult.get());
+        assertSame(first, repeatedResult.get());
+
+        final ArgumentCaptor<Iterable<UUID>> lookups = ArgumentCaptor.forClass((Class) Iterable.class);
+        verify(this.backend, times(1)).getAllById(lookups.capture(), anyBoolean());
+        assertEquals(ImmutableSet.of(first.getUniqueId(), second.getUniqueId()), ImmutableSet.copyOf(lookups.getValue()));
+    }
+
+    @Test
+    public void testCancelOnlyAffectsCaller() throws Exception {
+        final CoalescingGameProfileManager manager = manager(100);
+        final GameProfile first = profile("first");
+
+        final CompletableFuture<GameProfile> cancelled = manager.get(first.getUniqueId());
+        final CompletableFuture<GameProfile> result = manager.get(first.getUniqueId());
+        assertTrue(cancelled.cancel(false));
+        assertSame(first, result.get());
+        verify(this.backend, times(1)).getAllById(any(), anyBoolean());
+    }
+
+    @Test
+    public void testRejectedFlushIsRolledBack() {
+        final CoalescingGameProfileManager manager = manager(100);
+        final UUID uniqueId = profile("first").getUniqueId();
+        this.scheduler.shutdown();
+
+        for (int i = 0; i < 2; i++) {
+            try {
+                manager.get(uniqueId);
+                fail("The flush was not rejected");
+            } catch (RejectedExecutionException e) {
+                // Expected, the request may not be left behind in flight
+            }
+        }
+    }
+
+    @Test
+    public void testFullBatchIsSubmitted() throws Exception {
+        final CoalescingGameProfileManager manager = manager(2);
+        final Collection<CompletableFuture<GameProfile>> results = ImmutableList.of(
+                manager.get(profile("first").getUniqueId()),
+                manager.get(profile("second").getUniqueId()),
+                manager.get(profile("third").getUniqueId()));
+        for (CompletableFuture<GameProfile> result : results) {
+            result.get();
+        }
+        verify(this.backend, times(2)).getAllById(any(), anyBoolean());
+        assertTrue(Iterables.all(results, CompletableFuture::isDone));
+    }
+
+    @Test
+    public void testMissingProfile() throws Exception {
+        final CoalescingGameProfileManager manager = manager(100);
+        try {
+            manager.get(UUID.randomUUID()).get();
+            fail();
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof ProfileNotFoundException);
+        }
+    }
+
+}
@@ -0,0 +1,113 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.service.economy.account;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.common.collect.ImmutableSet;
+import org.junit.Before;
+import org.junit.Test;
+import org.spongepowered.api.service.context.Context;
+import org.spongepowered.api.service.economy.Currency;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+public class BalanceCacheTest {
+
+    private Account account;
+    private Currency currency;
+    private CompletableFuture<BigDecimal> pending;
+
+    @Before
+    public void setUp() {
+        this.account = mock(Account.class);
+        this.currency = mock(Currency.class);
+        this.pending = new CompletableFuture<>();
+        when(this.account.getIdentifier()).thenReturn("account");
+        when(this.account.getActiveContexts()).thenReturn(ImmutableSet.of());
+        when(this.account.getBalanceAsync(any(Currency.class), any(), any())).thenReturn(this.pending);
+    }
+
+    @Test
+    public void testCachedBalanceDoesNotBlock() {
+        final BalanceCache cache = BalanceCache.builder().executor(Runnable::run).build();
+        assertFalse(cache.getCachedBalance(this.account, this.currency).isPresent());
+        this.pending.complete(BigDecimal.TEN);
+        assertEquals(Optional.of(BigDecimal.TEN), cache.getCachedBalance(this.account, this.currency));
+        assertEquals(BigDecimal.TEN, cache.getBalance(this.account, this.currency).join());
+        verify(this.account, times(1)).getBalanceAsync(any(Currency.class), any(), any());
+    }
+
+    @Test
+    public void testInvalidate() {
+        final BalanceCache cache = BalanceCache.builder().executor(Runnable::run).build();
+        this.pending.complete(BigDecimal.ONE);
+        final Set<Context> contexts = ImmutableSet.of(new Context("world", "nether"));
+        cache.getBalance(this.account, this.currency).join();
+        cache.getBalance(this.account, this.currency, contexts).join();
+        verify(this.account, times(2)).getBalanceAsync(any(Currency.class), any(), any());
+
+        cache.invalidate(this.account);
+        cache.getBalance(this.account, this.currency).join();
+        cache.getBalance(this.account, this.currency, contexts).join();
+        verify(this.account, times(4)).getBalanceAsync(any(Currency.class), any(), any());
+    }
+
+    @Test
+    public void testRefreshThroughLatestAccount() {
+        final long[] time = {0};
+        final BalanceCache cache = BalanceCache.builder().executor(Runnable::run).ticker(() -> time[0]).build();
+        this.pending.complete(BigDecimal.ONE);
+        cache.getBalance(this.account, this.currency).join();
+
+        final Account latest = mock(Account.class);
+        when(latest.getIdentifier()).thenReturn("account");
+        when(latest.getActiveContexts()).thenReturn(ImmutableSet.of());
+        when(latest.getBalanceAsync(any(Currency.class), any(), any())).thenReturn(CompletableFuture.completedFuture(BigDecimal.TEN));
+        assertEquals(BigDecimal.ONE, cache.getBalance(latest, this.currency).join());
+
+        time[0] = TimeUnit.MINUTES.toNanos(1);
+        assertEquals(BigDecimal.ONE, cache.getBalance(latest, this.currency).join());
+        assertEquals(BigDecimal.TEN, cache.getBalance(latest, this.currency).join());
+        verify(this.account, times(1)).getBalanceAsync(any(Currency.class), any(), any());
+        verify(latest, times(1)).getBalanceAsync(any(Currency.class), any(), any());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testExecutorRequired() {
+        BalanceCache.builder().build();
+    }
+
+}
@@ -0,0 +1,116 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.service.economy.transaction;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Answers;
+import org.mockito.InOrder;
+import org.spongepowered.api.event.cause.Cause;
+import org.spongepowered.api.service.context.Context;
+import org.spongepowered.api.service.economy.Currency;
+import org.spongepowered.api.service.economy.EconomyService;
+import org.spongepowered.api.service.economy.account.Account;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+public class TransactionBatchTest {
+
+    private static final Set<Context> CONTEXTS = ImmutableSet.of();
+
+    private final EconomyService service = mock(EconomyService.class, withSettings().defaultAnswer(Answers.CALLS_REAL_METHODS));
+    private final Cause cause = Cause.source("test").build();
+    private final Currency currency = mock(Currency.class);
+    private final Account first = mock(Account.class);
+    private final Account second = mock(Account.class);
+
+    @Before
+    public void setUp() {
+        when(this.first.getIdentifier()).thenReturn("first");
+        when(this.second.getIdentifier()).thenReturn("second");
+    }
+
+    @Test
+    public void testExecuteInOrder() {
+        final TransactionResult deposit = mock(TransactionResult.class);
+        final TransactionResult withdraw = mock(TransactionResult.class);
+        final TransferResult transfer = mock(TransferResult.class);
+        when(this.first.deposit(this.currency, BigDecimal.TEN, this.cause, CONTEXTS)).thenReturn(deposit);
+        when(this.second.withdraw(this.currency, BigDecimal.ONE, this.cause, CONTEXTS)).thenReturn(withdraw);
+        when(this.first.transfer(this.second, this.currency, BigDecimal.ONE, this.cause, CONTEXTS)).thenReturn(transfer);
+
+        final TransactionBatch batch = TransactionBatch.builder()
+                .deposit(this.first, this.currency, BigDecimal.TEN, CONTEXTS)
+                .withdraw(this.second, this.currency, BigDecimal.ONE, CONTEXTS)
+                .transfer(this.first, this.second, this.currency, BigDecimal.ONE, CONTEXTS)
+                .cause(this.cause)
+                .build();
+        final List<TransactionResult> results = this.service.execute(batch).join();
+
+        assertEquals(ImmutableList.of(deposit, withdraw, transfer), results);
+        final InOrder order = inOrder(this.first, this.second);
+        order.verify(this.first).deposit(this.currency, BigDecimal.TEN, this.cause, CONTEXTS);
+        order.verify(this.second).withdraw(this.currency, BigDecimal.ONE, this.cause, CONTEXTS);
+        order.verify(this.first).transfer(this.second, this.currency, BigDecimal.ONE, this.cause, CONTEXTS);
+    }
+
+    @Test
+    public void testAtomicUnsupportedByDefault() throws InterruptedException {
+        final TransactionBatch batch = TransactionBatch.builder()
+                .deposit(this.first, this.currency, BigDecimal.TEN, CONTEXTS)
+                .atomic(true)
+                .cause(this.cause)
+                .build();
+        when(this.service.supportsAtomicBatches()).thenReturn(true);
+        final CompletableFuture<List<TransactionResult>> future = this.service.execute(batch);
+        try {
+            future.get();
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof UnsupportedOperationException);
+        }
+        assertTrue(future.isCompletedExceptionally());
+        verifyZeroInteractions(this.first);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testCauseRequired() {
+        TransactionBatch.builder().deposit(this.first, this.currency, BigDecimal.TEN, CONTEXTS).build();
+    }
+
+}
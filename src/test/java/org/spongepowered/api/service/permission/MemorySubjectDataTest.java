@@ -0,0 +1,123 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.service.permission;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.google.common.collect.ImmutableSet;
+import org.junit.Before;
+import org.junit.Test;
+import org.spongepowered.api.service.context.Context;
+import org.spongepowered.api.util.Tristate;
+
+import java.util.Set;
+
+public class MemorySubjectDataTest {
+
+    private static final Set<Context> WORLD_CONTEXT = ImmutableSet.of(new Context(Context.WORLD_KEY, "world"));
+
+    private PermissionService service;
+    private SubjectCollection groups;
+
+    @Before
+    public void initialize() {
+        this.service = mock(PermissionService.class);
+        this.groups = mock(SubjectCollection.class);
+        when(this.groups.getIdentifier()).thenReturn(PermissionService.SUBJECTS_GROUP);
+        when(this.service.getSubjects(PermissionService.SUBJECTS_GROUP)).thenReturn(this.groups);
+    }
+
+    private Subject createGroup(String identifier, SubjectData data) {
+        final Subject subject = mock(Subject.class);
+        when(subject.getIdentifier()).thenReturn(identifier);
+        when(subject.getContainingCollection()).thenReturn(this.groups);
+        when(subject.getSubjectData()).thenReturn(data);
+        when(this.groups.get(identifier)).thenReturn(subject);
+        return subject;
+    }
+
+    @Test
+    public void testResolveInherited() {
+        final MemorySubjectData groupData = new MemorySubjectData(this.service);
+        final Subject group = createGroup("group", groupData);
+        final MemorySubjectData data = new MemorySubjectData(this.service);
+        data.addParent(SubjectData.GLOBAL_CONTEXT, group);
+
+        groupData.setPermission(SubjectData.GLOBAL_CONTEXT, "generate", Tristate.TRUE);
+        data.setPermission(SubjectData.GLOBAL_CONTEXT, "generate.sunset", Tristate.FALSE);
+
+        assertEquals(Tristate.TRUE, data.resolvePermissionValue(SubjectData.GLOBAL_CONTEXT, "generate.rainbow"));
+        assertEquals(Tristate.FALSE, data.resolvePermissionValue(SubjectData.GLOBAL_CONTEXT, "generate.sunset"));
+        assertEquals(Tristate.UNDEFINED, data.resolvePermissionValue(WORLD_CONTEXT, "generate.rainbow"));
+    }
+
+    @Test
+    public void testInvalidatedOnChange() {
+        final MemorySubjectData groupData = new MemorySubjectData(this.service);
+        final Subject group = createGroup("group", groupData);
+        final MemorySubjectData data = new MemorySubjectData(this.service);
+
+        assertEquals(Tristate.UNDEFINED, data.resolvePermissionValue(WORLD_CONTEXT, "generate.rainbow"));
+        data.setPermission(WORLD_CONTEXT, "generate.rainbow", Tristate.TRUE);
+        assertEquals(Tristate.TRUE, data.resolvePermissionValue(WORLD_CONTEXT, "generate.rainbow"));
+
+        groupData.setPermission(WORLD_CONTEXT, "generate", Tristate.FALSE);
+        assertEquals(Tristate.UNDEFINED, data.resolvePermissionValue(WORLD_CONTEXT, "generate.sunset"));
+        data.addParent(WORLD_CONTEXT, group);
+        assertEquals(Tristate.FALSE, data.resolvePermissionValue(WORLD_CONTEXT, "generate.sunset"));
+        groupData.setPermission(WORLD_CONTEXT, "generate", Tristate.TRUE);
+        assertEquals(Tristate.TRUE, data.resolvePermissionValue(WORLD_CONTEXT, "generate.sunset"));
+        data.removeParent(WORLD_CONTEXT, group);
+        assertEquals(Tristate.UNDEFINED, data.resolvePermissionValue(WORLD_CONTEXT, "generate.sunset"));
+    }
+
+    @Test
+    public void testForeignParentNotCached() {
+        final Subject group = createGroup("group", mock(SubjectData.class));
+        final MemorySubjectData data = new MemorySubjectData(this.service);
+        data.addParent(WORLD_CONTEXT, group);
+
+        when(group.getPermissionValue(WORLD_CONTEXT, "generate")).thenReturn(Tristate.TRUE);
+        assertEquals(Tristate.TRUE, data.resolvePermissionValue(WORLD_CONTEXT, "generate"));
+        when(group.getPermissionValue(WORLD_CONTEXT, "generate")).thenReturn(Tristate.FALSE);
+        assertEquals(Tristate.FALSE, data.resolvePermissionValue(WORLD_CONTEXT, "generate"));
+    }
+
+    @Test
+    public void testCyclicParents() {
+        final MemorySubjectData firstData = new MemorySubjectData(this.service);
+        final MemorySubjectData secondData = new MemorySubjectData(this.service);
+        final Subject first = createGroup("first", firstData);
+        final Subject second = createGroup("second", secondData);
+        firstData.addParent(SubjectData.GLOBAL_CONTEXT, second);
+        secondData.addParent(SubjectData.GLOBAL_CONTEXT, first);
+        secondData.setPermission(SubjectData.GLOBAL_CONTEXT, "generate", Tristate.TRUE);
+
+        assertEquals(Tristate.TRUE, firstData.resolvePermissionValue(SubjectData.GLOBAL_CONTEXT, "generate"));
+        assertEquals(Tristate.UNDEFINED, secondData.resolvePermissionValue(SubjectData.GLOBAL_CONTEXT, "other"));
+    }
+}
@@ -107,4 +107,55 @@ public void testCreateFromValues() throws Exception {
         assertEquals(Tristate.FALSE, nodes.get("generate.thunderstorm.explosive"));
         assertEquals(Tristate.UNDEFINED, nodes.get("random.perm"));
     }
+
+    @Test
+    public void testCaseInsensitive() throws Exception {
+        final Map<String, Boolean> testPermissions = new HashMap<>();
+        testPermissions.put("Generate.Rainbow", true);
+        testPermissions.put("generate.SUNSET", false);
+
+        NodeTree nodes = NodeTree.of(testPermissions);
+
+        assertEquals(Tristate.TRUE, nodes.get("generate.rainbow"));
+        assertEquals(Tristate.TRUE, nodes.get("GENERATE.RAINBOW.double"));
+        assertEquals(Tristate.FALSE, nodes.get("gEnErAtE.sunset"));
+        assertEquals(Tristate.TRUE, nodes.withValue("GENERATE.Sunset", Tristate.TRUE).get("generate.sunset"));
+    }
+
+    @Test
+    public void testWideTree() throws Exception {
+        final Map<String, Boolean> testPermissions = new HashMap<>();
+        for (int i = 0; i < 200; i++) {
+            testPermissions.put("plugin.command" + i, i % 2 == 0);
+        }
+
+        NodeTree nodes = NodeTree.of(testPermissions);
+        NodeTree added = nodes;
+        for (int i = 200; i < 400; i++) {
+            added = added.withValue("plugin.command" + i, Tristate.fromBoolean(i % 2 == 0));
+        }
+
+        for (int i = 0; i < 400; i++) {
+            final Tristate expected = Tristate.fromBoolean(i % 2 == 0);
+            assertEquals(i < 200 ? expected : Tristate.UNDEFINED, nodes.get("plugin.command" + i));
+            assertEquals(expected, added.get("plugin.command" + i + ".sub"));
+        }
+        assertEquals(400, added.asMap().size());
+    }
+
+    @Test
+    public void testSeparators() throws Exception {
+        final Map<String, Boolean> testPermissions = new HashMap<>();
+        testPermissions.put("generate..rainbow", true);
+        testPermissions.put("sunset.", true);
+
+        NodeTree nodes = NodeTree.of(testPermissions);
+
+        assertEquals(Tristate.TRUE, nodes.get("generate..rainbow"));
+        assertEquals(Tristate.UNDEFINED, nodes.get("generate.rainbow"));
+        assertEquals(Tristate.TRUE, nodes.get("sunset"));
+        assertEquals(Tristate.TRUE, nodes.get("sunset..."));
+        assertEquals(Tristate.UNDEFINED, nodes.get("."));
+        assertEquals(Tristate.UNDEFINED, nodes.get(""));
+    }
 }
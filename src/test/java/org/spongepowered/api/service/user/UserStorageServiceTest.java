@@ -0,0 +1,101 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.service.user;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import org.junit.Test;
+import org.mockito.Answers;
+import org.spongepowered.api.entity.living.player.User;
+import org.spongepowered.api.profile.GameProfile;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public class UserStorageServiceTest {
+
+    private final UserStorageService service = mock(UserStorageService.class, withSettings().defaultAnswer(Answers.CALLS_REAL_METHODS));
+
+    private static GameProfile profile(String name) {
+        final GameProfile profile = mock(GameProfile.class);
+        when(profile.getName()).thenReturn(Optional.of(name));
+        return profile;
+    }
+
+    @Test
+    public void testGetDeduplicates() {
+        final UUID found = UUID.randomUUID();
+        final UUID missing = UUID.randomUUID();
+        final User user = mock(User.class);
+        doReturn(Optional.of(user)).when(this.service).get(found);
+        doReturn(Optional.empty()).when(this.service).get(missing);
+
+        assertEquals(ImmutableMap.of(found, user), this.service.get(ImmutableList.of(found, missing, found)));
+        verify(this.service, times(1)).get(found);
+    }
+
+    @Test
+    public void testGetAllPage() {
+        final List<GameProfile> profiles = ImmutableList.of(profile("a"), profile("b"), profile("c"), profile("d"));
+        doReturn(profiles).when(this.service).getAll();
+
+        assertEquals(profiles.subList(1, 3), ImmutableList.copyOf(this.service.getAll(1, 2)));
+        assertEquals(profiles.subList(3, 4), ImmutableList.copyOf(this.service.getAll(3, 2)));
+        assertEquals(ImmutableList.of(), ImmutableList.copyOf(this.service.getAll(4, 2)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeOffset() {
+        this.service.getAll(-1, 10);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeLimit() {
+        this.service.getAll(0, -1);
+    }
+
+    @Test
+    public void testMatchLimit() {
+        final List<GameProfile> profiles = ImmutableList.of(profile("Notch"), profile("Nothing"), profile("Notorious"));
+        doReturn(profiles).when(this.service).match("not");
+
+        assertEquals(profiles.subList(0, 2), ImmutableList.copyOf(this.service.match("not", 2)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeMatchLimit() {
+        this.service.match("not", -1);
+    }
+
+}
@@ -0,0 +1,88 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.text;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import org.junit.Before;
+import org.junit.Test;
+import org.spongepowered.api.text.format.TextColor;
+import org.spongepowered.api.text.format.TextFormat;
+
+public class TextTemplateTest {
+
+    private TextTemplate template;
+
+    @Before
+    public void initialize() throws Exception {
+        TestPlainTextSerializer.inject();
+        final TextElement exclamation = builder -> builder.append(Text.of("!"));
+        this.template = TextTemplate.of("Hello ", Text.of("there "), TextTemplate.arg("name"), exclamation, " You have ",
+                TextTemplate.arg("count"), " new messages, ", TextTemplate.arg("name"), TextTemplate.arg("suffix").optional());
+    }
+
+    @Test
+    public void testArgumentOrder() {
+        assertThat(ImmutableList.copyOf(this.template.getArguments().keySet()), is(ImmutableList.of("name", "count", "suffix")));
+    }
+
+    @Test
+    public void testApply() {
+        Text text = this.template.apply(ImmutableMap.of("name", "Steve", "count", 3)).build();
+        assertThat(text.toPlain(), is("Hello there Steve! You have 3 new messages, Steve"));
+        assertThat(this.template.applyInOrder("Steve", 3).build(), is(text));
+        assertThat(this.template.applyInOrder("Steve", 3, null).build(), is(text));
+        assertThat(this.template.applyInOrder("Steve", 3, ".").build().toPlain(), is("Hello there Steve! You have 3 new messages, Steve."));
+    }
+
+    @Test
+    public void testArgumentFormat() {
+        final TextFormat format = TextFormat.of(mock(TextColor.class));
+        final TextElement element = builder -> builder.append(Text.of("element"));
+        final TextTemplate template = TextTemplate.of(TextTemplate.arg("value").optional().format(format).defaultValue(Text.of("default")));
+        assertThat(template.apply().build(), is(Text.builder().append(Text.builder().format(format)
+                .append(Text.of("default")).build()).build()));
+        assertThat(template.applyInOrder(Text.of("text")).build(), is(Text.builder().append(Text.builder().format(format)
+                .append(Text.of("text")).build()).build()));
+        assertThat(template.applyInOrder(3).build(), is(Text.builder().append(Text.builder().format(format).append(Text.of("3")).build()).build()));
+        assertThat(template.applyInOrder(element).build(), is(Text.builder().append(Text.builder().format(format).append(Text.of("element"))
+                .build()).build()));
+    }
+
+    @Test(expected = TextTemplateArgumentException.class)
+    public void testMissingArgument() {
+        this.template.applyInOrder("Steve");
+    }
+
+    @Test(expected = TextTemplateArgumentException.class)
+    public void testTooManyArguments() {
+        this.template.applyInOrder("Steve", 3, ".", "?");
+    }
+
+}
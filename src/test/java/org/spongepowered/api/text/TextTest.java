@@ -25,18 +25,23 @@
 package org.spongepowered.api.text;
 
 import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.is;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 import static org.spongepowered.api.text.action.TextActions.insertText;
 
 import org.junit.Before;
 import org.junit.Test;
+import org.spongepowered.api.scoreboard.Score;
 import org.spongepowered.api.text.format.TextColor;
 import org.spongepowered.api.text.format.TextColors;
 import org.spongepowered.api.text.format.TextStyle;
 import org.spongepowered.api.text.format.TextStyles;
+import org.spongepowered.api.text.serializer.TextSerializers;
 import org.spongepowered.api.util.test.TestHooks;
 
 public class TextTest {
@@ -100,6 +105,36 @@ public void testCompositeText() {
         assertThat(server.getShiftClickAction().get(), is(insertText("Welcome Spongie!")));
     }
 
+    @Test
+    public void testCachedPlain() throws Exception {
+        final int[] calls = new int[1];
+        TestHooks.setCatalogElement(TextSerializers.class, "PLAIN", new TestPlainTextSerializer() {
+
+            @Override
+            public String serialize(Text text) {
+                calls[0]++;
+                return super.serialize(text);
+            }
+        });
+        Text text = Text.of("Hello ", Text.of("world"));
+        assertThat(text.toPlain(), is("Hello world"));
+        assertThat(text.toPlain(), is("Hello world"));
+        assertThat(text.compareTo(Text.of("Hello")), is(greaterThan(0)));
+        assertThat(calls[0], is(2));
+        assertThat(text.hashCode(), is(Text.of("Hello ", Text.of("world")).hashCode()));
+    }
+
+    @Test
+    public void testScoreNotCached() throws Exception {
+        TestPlainTextSerializer.inject();
+        final Score score = mock(Score.class);
+        when(score.getScore()).thenReturn(1);
+        final Text text = Text.of("Score: ", Text.of(score));
+        assertThat(text.toPlain(), is("Score: 1"));
+        when(score.getScore()).thenReturn(2);
+        assertThat(text.toPlain(), is("Score: 2"));
+    }
+
     private static Text findText(Text root, String text) {
         for (Text t : root.withChildren()) {
             if (t instanceof LiteralText && ((LiteralText) t).getContent().contains(text)) {
@@ -0,0 +1,116 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.text.channel;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import org.junit.After;
+import org.junit.Test;
+import org.spongepowered.api.Game;
+import org.spongepowered.api.Server;
+import org.spongepowered.api.command.source.ConsoleSource;
+import org.spongepowered.api.entity.living.player.Player;
+import org.spongepowered.api.text.Text;
+import org.spongepowered.api.text.chat.ChatType;
+import org.spongepowered.api.util.test.TestHooks;
+
+import java.util.Collection;
+import java.util.Optional;
+
+import javax.annotation.Nullable;
+
+public class MessageChannelTest {
+
+    private final ChatType type = mock(ChatType.class);
+    private final MessageReceiver first = mock(MessageReceiver.class);
+    private final MessageReceiver second = mock(MessageReceiver.class, withSettings().extraInterfaces(ChatTypeMessageReceiver.class));
+    private final MessageReceiver third = mock(MessageReceiver.class);
+
+    @After
+    public void tearDown() throws ReflectiveOperationException {
+        TestHooks.setGame(null);
+    }
+
+    @Test
+    public void testServerMembersAreCached() throws ReflectiveOperationException {
+        final Game game = mock(Game.class);
+        final Server server = mock(Server.class);
+        final ConsoleSource console = mock(ConsoleSource.class);
+        final Player player = mock(Player.class);
+        final Player joined = mock(Player.class);
+        when(game.getServer()).thenReturn(server);
+        when(server.getConsole()).thenReturn(console);
+        when(server.getOnlinePlayers()).thenReturn(ImmutableList.of(player));
+        TestHooks.setGame(game);
+
+        final Collection<MessageReceiver> members = MessageChannel.TO_ALL.getMembers();
+        assertEquals(ImmutableSet.of(player, console), members);
+        assertSame(members, MessageChannel.TO_ALL.getMembers());
+
+        when(server.getOnlinePlayers()).thenReturn(ImmutableList.of(player, joined));
+        assertEquals(ImmutableSet.of(player, joined, console), MessageChannel.TO_ALL.getMembers());
+    }
+
+    @Test
+    public void testIdentityTransform() {
+        final Text text = Text.of("Hello");
+        MessageChannel.fixed(this.first, this.second).send(null, text, this.type);
+        verify(this.first).sendMessage(same(text));
+        verify((ChatTypeMessageReceiver) this.second).sendMessage(eq(this.type), same(text));
+    }
+
+    @Test
+    public void testDistinctTransforms() {
+        final Text text = Text.of("Hello");
+        final Text transformed = Text.of("Hello there");
+        new MessageChannel() {
+
+            @Override
+            public Optional<Text> transformMessage(@Nullable Object sender, MessageReceiver recipient, Text original, ChatType type) {
+                return recipient == MessageChannelTest.this.third ? Optional.empty() : Optional.of(Text.of("Hello there"));
+            }
+
+            @Override
+            public Collection<MessageReceiver> getMembers() {
+                return ImmutableList.of(MessageChannelTest.this.first, MessageChannelTest.this.second, MessageChannelTest.this.third);
+            }
+        }.send(null, text, this.type);
+        verify(this.first).sendMessage(transformed);
+        verify((ChatTypeMessageReceiver) this.second).sendMessage(this.type, transformed);
+        verify(this.third, never()).sendMessage(any(Text.class));
+    }
+
+}
@@ -0,0 +1,77 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import org.junit.Test;
+
+import java.util.Optional;
+
+public class PrefixTrieTest {
+
+    private static final PrefixTrie<Integer> TRIE = PrefixTrie.of(ImmutableMap.<String, Integer>builder()
+            .put("tp", 1)
+            .put("tell", 2)
+            .put("Teleport", 3)
+            .put("time", 4)
+            .put("give", 5)
+            .put("", 6)
+            .build());
+
+    @Test
+    public void testGet() {
+        assertEquals(Optional.of(1), TRIE.get("tp"));
+        assertEquals(Optional.of(3), TRIE.get("TELEPORT"));
+        assertEquals(Optional.of(6), TRIE.get(""));
+        assertEquals(Optional.empty(), TRIE.get("tel"));
+        assertEquals(Optional.empty(), TRIE.get("teleports"));
+        assertTrue(TRIE.containsKey("Give"));
+        assertFalse(TRIE.containsKey("gi"));
+        assertEquals(6, TRIE.size());
+    }
+
+    @Test
+    public void testPrefix() {
+        assertEquals(ImmutableList.of("Teleport", "tell"), TRIE.getKeysWithPrefix("TEL"));
+        assertEquals(ImmutableList.of(3, 2, 4, 1), TRIE.getValuesWithPrefix("t"));
+        assertEquals(ImmutableList.of(), TRIE.getKeysWithPrefix("x"));
+        assertEquals(6, TRIE.getKeysWithPrefix("").size());
+    }
+
+    @Test
+    public void testDuplicateKeys() {
+        final PrefixTrie<Integer> trie = PrefixTrie.of(ImmutableMap.of("help", 1, "HELP", 2));
+        assertEquals(1, trie.size());
+        assertEquals(Optional.of(2), trie.get("help"));
+        assertEquals(ImmutableList.of("HELP"), trie.getKeysWithPrefix("he"));
+        assertTrue(PrefixTrie.of().isEmpty());
+    }
+
+}
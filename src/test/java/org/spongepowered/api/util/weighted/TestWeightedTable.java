@@ -24,10 +24,13 @@
  */
 package org.spongepowered.api.util.weighted;
 
+import com.google.common.collect.Lists;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
 
 public class TestWeightedTable {
 
@@ -41,4 +44,72 @@ public void test() {
         Assert.assertEquals(this, results.get(0));
     }
 
+    @Test
+    public void testAliasTable() {
+        RiggedRandom rand = new RiggedRandom();
+        WeightedTable<String> table = new WeightedTable<>();
+        table.add("a", 1);
+        table.add("b", 3);
+        rand.enqueue(0.1);
+        rand.enqueue(0.3);
+        rand.enqueue(0.7);
+        List<String> results = new ArrayList<>();
+        table.get(rand, 3, results);
+        Assert.assertEquals(Lists.newArrayList("a", "b", "b"), results);
+
+        // Changes to the table must rebuild the alias table
+        table.removeObject("b");
+        rand.enqueue(0.7);
+        Assert.assertEquals(Lists.newArrayList("a"), table.get(rand));
+    }
+
+    @Test
+    public void testDistribution() {
+        Random rand = new Random(42);
+        WeightedTable<Integer> table = new WeightedTable<>();
+        table.add(0, 1);
+        table.add(1, 2);
+        table.add(2, 0);
+        table.add(3, 5);
+        List<Integer> results = new ArrayList<>();
+        int rolls = 80000;
+        table.get(rand, rolls, results);
+        int[] counts = new int[4];
+        for (int result : results) {
+            counts[result]++;
+        }
+        Assert.assertEquals(rolls, results.size());
+        Assert.assertEquals(0, counts[2]);
+        Assert.assertEquals(1 / 8.0, counts[0] / (double) rolls, 0.01);
+        Assert.assertEquals(2 / 8.0, counts[1] / (double) rolls, 0.01);
+        Assert.assertEquals(5 / 8.0, counts[3] / (double) rolls, 0.01);
+    }
+
+    @Test
+    public void testNestedTable() {
+        WeightedTable<String> nested = new WeightedTable<>(2);
+        nested.add("nested", 1);
+        WeightedTable<String> table = new WeightedTable<>();
+        table.add("a", 1);
+        table.add(new NestedTableEntry<>(1, nested));
+        RiggedRandom rand = new RiggedRandom();
+        rand.enqueue(0.9);
+        Assert.assertEquals(Lists.newArrayList("nested", "nested"), table.get(rand));
+    }
+
+    @Test
+    public void testNestedTableOverride() {
+        WeightedTable<String> nested = new WeightedTable<String>() {
+
+            @Override
+            public List<String> get(Random rand) {
+                return Lists.newArrayList("overridden");
+            }
+        };
+        nested.add("nested", 1);
+        WeightedTable<String> table = new WeightedTable<>();
+        table.add(new NestedTableEntry<>(1, nested));
+        Assert.assertEquals(Lists.newArrayList("overridden"), table.get(new Random(42)));
+    }
+
 }
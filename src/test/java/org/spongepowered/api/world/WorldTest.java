@@ -0,0 +1,77 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.world;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+import com.flowpowered.math.vector.Vector3i;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import org.junit.Test;
+import org.mockito.Answers;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+public class WorldTest {
+
+    private static World world() {
+        return mock(World.class, withSettings().defaultAnswer(Answers.CALLS_REAL_METHODS));
+    }
+
+    @Test
+    public void testFailedChunksAreAbsent() {
+        final World world = world();
+        final Chunk chunk = mock(Chunk.class);
+        final CompletableFuture<Optional<Chunk>> failed = new CompletableFuture<>();
+        failed.completeExceptionally(new IllegalStateException("Corrupted chunk"));
+        doReturn(CompletableFuture.completedFuture(Optional.of(chunk))).when(world).loadChunkAsync(eq(new Vector3i(0, 0, 0)), anyBoolean(), any());
+        doReturn(failed).when(world).loadChunkAsync(eq(new Vector3i(1, 0, 0)), anyBoolean(), any());
+        doReturn(CompletableFuture.completedFuture(Optional.empty())).when(world).loadChunkAsync(eq(new Vector3i(2, 0, 0)), anyBoolean(), any());
+
+        final Map<Vector3i, Chunk> chunks = world.loadChunksAsync(ImmutableList.of(
+                new Vector3i(0, 0, 0), new Vector3i(1, 0, 0), new Vector3i(2, 0, 0)), false).join();
+        assertEquals(ImmutableMap.of(new Vector3i(0, 0, 0), chunk), chunks);
+    }
+
+    @Test
+    public void testCancelIsPropagated() {
+        final World world = world();
+        final CompletableFuture<Optional<Chunk>> load = new CompletableFuture<>();
+        doReturn(load).when(world).loadChunkAsync(any(Vector3i.class), anyBoolean(), any());
+
+        assertTrue(world.loadChunksAsync(ImmutableList.of(new Vector3i(0, 0, 0)), false).cancel(false));
+        assertTrue(load.isCancelled());
+    }
+
+}
@@ -0,0 +1,118 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.world.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.spongepowered.api.data.DataQuery.of;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.Test;
+import org.spongepowered.api.data.DataContainer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import javax.annotation.Nullable;
+
+public class ChunkDataStreamTest {
+
+    private static DataContainer chunk(int x) {
+        return DataContainer.createNew()
+                .set(of("Level", "xPos"), x)
+                .set(of("Level", "Sections"), ImmutableList.of("section"));
+    }
+
+    @Test
+    public void testStreamSkipsMissingChunks() {
+        final ListChunkDataStream stream = new ListChunkDataStream(chunk(0), null, chunk(2));
+        assertEquals(ImmutableList.of(0, 2), stream.stream()
+                .map(data -> data.getInt(of("Level", "xPos")).get())
+                .collect(Collectors.toList()));
+    }
+
+    @Test
+    public void testParallelStream() {
+        final List<DataContainer> chunks = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            chunks.add(chunk(i));
+        }
+        final ListChunkDataStream stream = new ListChunkDataStream(chunks.toArray(new DataContainer[chunks.size()]));
+        assertEquals(5000, stream.parallelStream().mapToInt(data -> data.getInt(of("Level", "xPos")).get()).distinct().count());
+    }
+
+    @Test
+    public void testProjection() {
+        final ChunkDataStream stream = new ListChunkDataStream(chunk(1)).project(ImmutableList.of(of("Level", "xPos")));
+        final DataContainer data = stream.stream().findFirst().get();
+        assertEquals(Optional.of(1), data.getInt(of("Level", "xPos")));
+        assertFalse(data.contains(of("Level", "Sections")));
+    }
+
+    @Test
+    public void testNestedProjection() {
+        final ChunkDataStream stream = new ListChunkDataStream(chunk(1))
+                .project(ImmutableList.of(of("Level", "xPos")))
+                .project(ImmutableList.of(of("Level"), of("Level", "Sections")));
+        final DataContainer data = stream.stream().findFirst().get();
+        assertEquals(Optional.of(1), data.getInt(of("Level", "xPos")));
+        assertFalse(data.contains(of("Level", "Sections")));
+    }
+
+    private static final class ListChunkDataStream implements ChunkDataStream {
+
+        private final List<DataContainer> chunks;
+        private int index;
+
+        ListChunkDataStream(DataContainer... chunks) {
+            this.chunks = Arrays.asList(chunks);
+        }
+
+        @Nullable
+        @Override
+        public DataContainer next() {
+            return this.chunks.get(this.index++);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.index < this.chunks.size();
+        }
+
+        @Override
+        public int available() {
+            return this.chunks.size() - this.index;
+        }
+
+        @Override
+        public void reset() {
+            this.index = 0;
+        }
+    }
+
+}
@@ -0,0 +1,85 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.world.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import com.flowpowered.math.vector.Vector3i;
+import com.google.common.collect.ImmutableList;
+import org.junit.Test;
+import org.mockito.Answers;
+import org.spongepowered.api.data.DataContainer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+public class WorldStorageTest {
+
+    private static WorldStorage storage() {
+        final WorldStorage storage = mock(WorldStorage.class, withSettings().defaultAnswer(Answers.CALLS_REAL_METHODS));
+        when(storage.doesChunkExist(any())).thenAnswer(invocation ->
+                CompletableFuture.completedFuture(((Vector3i) invocation.getArguments()[0]).getX() % 2 == 0));
+        when(storage.getChunkData(any(Vector3i.class))).thenAnswer(invocation -> {
+            final Vector3i position = ((Vector3i) invocation.getArguments()[0]);
+            return CompletableFuture.completedFuture(position.getX() % 2 == 0 ? Optional.of(DataContainer.createNew()) : Optional.empty());
+        });
+        return storage;
+    }
+
+    @Test
+    public void testExistingChunksInRegionOrder() {
+        final List<Vector3i> existing = ImmutableList.copyOf(storage().getExistingChunks(ImmutableList.of(
+                new Vector3i(40, 0, 0), new Vector3i(2, 0, 1), new Vector3i(1, 0, 0), new Vector3i(4, 0, 0), new Vector3i(2, 0, 1))).join());
+        assertEquals(ImmutableList.of(new Vector3i(4, 0, 0), new Vector3i(2, 0, 1), new Vector3i(40, 0, 0)), existing);
+    }
+
+    @Test
+    public void testChunkDataInArea() {
+        final List<Vector3i> read = new ArrayList<>();
+        storage().getChunkData(new Vector3i(0, 0, 0), new Vector3i(3, 0, 1), (position, data) -> read.add(position)).join();
+        assertEquals(ImmutableList.of(new Vector3i(0, 0, 0), new Vector3i(2, 0, 0), new Vector3i(0, 0, 1), new Vector3i(2, 0, 1)), read);
+    }
+
+    @Test
+    public void testAreaAcrossRegionsInRegionOrder() {
+        final List<Vector3i> read = new ArrayList<>();
+        storage().getChunkData(new Vector3i(30, 0, 0), new Vector3i(34, 0, 0), (position, data) -> read.add(position)).join();
+        assertEquals(ImmutableList.of(new Vector3i(30, 0, 0), new Vector3i(32, 0, 0), new Vector3i(34, 0, 0)), read);
+        final List<Vector3i> existing = ImmutableList.copyOf(storage().getExistingChunks(new Vector3i(-2, 0, 31), new Vector3i(0, 0, 32)).join());
+        assertEquals(ImmutableList.of(new Vector3i(-2, 0, 31), new Vector3i(-2, 0, 32), new Vector3i(0, 0, 31), new Vector3i(0, 0, 32)), existing);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidArea() {
+        storage().getExistingChunks(new Vector3i(1, 0, 0), new Vector3i(0, 0, 0));
+    }
+
+}